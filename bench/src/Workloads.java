@@ -0,0 +1,287 @@
+import bagel.Keys;
+import bench.Workload;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Class that holds the workloads run by the benchmarks, one for each hot path of the game. Levels are generated
+ * with the requested number of game objects packed into the 6000 pixels of the shipped levels, so the player
+ * reaches the enemy boss and end flag within one benchmark iteration whatever the number, and drawn into a
+ * renderer that only counts draw calls, so the benchmarks run without a window. Run from the root of the
+ * repository so the game properties and images are found.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class Workloads {
+    private static final int PLAYER_X = 100, PLAYER_Y = 687, COLLISION_RADIUS = 20;
+    private static final int JUMP_INTERVAL = 40, FIREBALL_INTERVAL = 20;
+    // Game objects are spread evenly between these positions, followed by the enemy boss and end flag
+    private static final int START_X = 300, END_X = 5300, ENEMY_BOSS_X = 5700, END_FLAG_X = 5800;
+    // Game objects cycle through these types from left to right, with coins and enemies the most common
+    private static final String[] TYPES = {"COIN", "ENEMY", "COIN", "FLYING_PLATFORM", "COIN", "ENEMY",
+            "DOUBLE_SCORE", "COIN", "ENEMY", "INVINCIBLE_POWER"};
+    // Each type cycles through rows of heights, so dense levels are spread vertically as well as horizontally
+    private static final int[][] TYPE_Y = {{305, 405, 505, 605}, {690}, {305, 405, 505, 605}, {355, 555},
+            {305, 405, 505, 605}, {690}, {305, 505, 690}, {305, 405, 505, 605}, {690}, {305, 505, 690}};
+    // Enemies stand on the ground no closer together than in the shipped levels, and the rest fly in rows above
+    // the highest the player can jump, where they are still moved and tested for collisions but cannot be hit
+    private static final int GROUND_ENEMY_SPACING = 70;
+    private static final int[] SKY_ENEMY_Y = {10, 30};
+
+    /***
+     * Method that writes a level file with the player, the platform and the given number of other game objects
+     * spread evenly from left to right, ending in an enemy boss and the end flag. The more game objects, the
+     * closer together they are, so the number of them near the player grows with the number in the level.
+     * @param entityCount Number of game objects besides the player, platform, enemy boss and end flag
+     * @return String Returns the path to the level file, deleted when the benchmark exits
+     * @throws IOException If the level file cannot be written
+     */
+    static String writeLevel(int entityCount) throws IOException {
+        File levelFile = File.createTempFile("bench-level-" + entityCount + "-", ".csv");
+        levelFile.deleteOnExit();
+        try (PrintWriter out = new PrintWriter(new FileWriter(levelFile))) {
+            out.println("PLAYER," + PLAYER_X + "," + PLAYER_Y);
+            out.println("PLATFORM,3000,745");
+            int groundEnemyX = Integer.MIN_VALUE;
+            for (int i = 0; i < entityCount; i++) {
+                int x = START_X + (int) ((long) i * (END_X - START_X) / Math.max(1, entityCount));
+                int type = i % TYPES.length;
+                int row = i / TYPES.length;
+                int y = TYPE_Y[type][row % TYPE_Y[type].length];
+                if (TYPES[type].equals("ENEMY")) {
+                    if (x - groundEnemyX >= GROUND_ENEMY_SPACING) {
+                        groundEnemyX = x;
+                    } else {
+                        y = SKY_ENEMY_Y[row % SKY_ENEMY_Y.length];
+                    }
+                }
+                out.println(TYPES[type] + "," + x + "," + y);
+            }
+            out.println("ENEMY_BOSS," + ENEMY_BOSS_X + ",680");
+            out.println("END_FLAG," + END_FLAG_X + ",670");
+        }
+        return levelFile.getPath();
+    }
+
+    /***
+     * Method that reads the game properties with the first level replaced by the given level file
+     * @param levelFile Path to the level file to play as level 1
+     * @return GameConfig Returns the parsed game properties
+     */
+    static GameConfig readConfig(String levelFile) {
+        Properties props = IOUtils.readPropertiesFile("res/app.properties");
+        props.setProperty("level1File", levelFile);
+        return new GameConfig(props);
+    }
+
+    /***
+     * Method that creates a level playing the given level file, drawn into a renderer that only counts draw calls
+     * @param levelFile Path to the level file to play as level 1
+     * @return Level Returns the level, not yet loaded
+     */
+    static Level createLevel(String levelFile) {
+        Level level = new Level(readConfig(levelFile), IOUtils.readPropertiesFile("res/message_en.properties"),
+                new RecordingRenderer(false));
+        level.setSeed(1);
+        return level;
+    }
+
+    /**
+     * Class for the workload of one simulation tick of a loaded level, with the player walking right, jumping and
+     * throwing fireballs at the same rhythm as the headless runner. The level is loaded again before each
+     * iteration.
+     */
+    public static class LevelUpdate implements Workload {
+        private Level level;
+        private final ScriptedInput input = new ScriptedInput();
+        private int tick;
+
+        /***
+         * Method that generates a level with the given number of game objects
+         * @param entityCount Number of game objects in the level
+         * @throws IOException If the level file cannot be written
+         */
+        public void setUp(int entityCount) throws IOException {
+            level = createLevel(writeLevel(entityCount));
+        }
+
+        /***
+         * Method that loads the level again, with the player back at the start
+         */
+        public void reset() {
+            level.loadLevel(1);
+            input.setDown(Keys.RIGHT, true);
+            tick = 0;
+        }
+
+        /***
+         * Method that runs one simulation tick of the level
+         * @return long Returns the score, to be consumed
+         */
+        public long run() {
+            if (tick % JUMP_INTERVAL == 0) {
+                input.press(Keys.UP);
+            }
+            if (tick % FIREBALL_INTERVAL == 0) {
+                input.press(Keys.S);
+            }
+            level.updateGameObjects(input);
+            input.endTick();
+            tick++;
+            return level.getScore();
+        }
+    }
+
+    /**
+     * Class for the workload of populating a level with its game objects. The level file is parsed into its
+     * cached template during set up, so only creating and respawning the game objects is measured.
+     */
+    public static class LevelLoad implements Workload {
+        private Level level;
+
+        /***
+         * Method that generates a level with the given number of game objects and parses it into its cached
+         * template
+         * @param entityCount Number of game objects in the level
+         * @throws IOException If the level file cannot be written
+         */
+        public void setUp(int entityCount) throws IOException {
+            level = createLevel(writeLevel(entityCount));
+            level.loadLevel(1);
+        }
+
+        /***
+         * Method that does nothing, as the workload does not change as it runs
+         */
+        public void reset() {
+        }
+
+        /***
+         * Method that loads the level, respawning every game object
+         * @return long Returns the right edge of the camera's view, to be consumed
+         */
+        public long run() {
+            level.loadLevel(1);
+            return (long) level.getCamera().getViewMaxX();
+        }
+    }
+
+    /**
+     * Class for the workload of reading every game object of a CSV level file.
+     */
+    public static class CsvRead implements Workload {
+        private String levelFile;
+
+        /***
+         * Method that generates a level file with the given number of game objects
+         * @param entityCount Number of game objects in the level file
+         * @throws IOException If the level file cannot be written
+         */
+        public void setUp(int entityCount) throws IOException {
+            levelFile = writeLevel(entityCount);
+        }
+
+        /***
+         * Method that does nothing, as the workload does not change as it runs
+         */
+        public void reset() {
+        }
+
+        /***
+         * Method that reads every game object of the level file
+         * @return long Returns the sum of the positions and type lengths read, to be consumed
+         */
+        public long run() {
+            long sum = 0;
+            try {
+                CsvLevelReader reader = new CsvLevelReader(levelFile);
+                while (reader.next()) {
+                    sum += reader.getX() + reader.getType().length();
+                }
+                reader.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Class for the workloads that test the player against many positions, either for a collision or for being
+     * within range of the enemy boss's fireballs.
+     */
+    private abstract static class PositionWorkload implements Workload {
+        protected Player player;
+        protected EnemyBoss enemyBoss;
+        protected double[] xs, ys;
+
+        /***
+         * Method that creates the player and enemy boss, and the given number of positions spread around them
+         * @param entityCount Number of positions to test against
+         * @throws IOException If the game properties cannot be read
+         */
+        public void setUp(int entityCount) throws IOException {
+            GameConfig config = readConfig(writeLevel(0));
+            player = new Player(PLAYER_X, PLAYER_Y, config);
+            enemyBoss = new EnemyBoss(PLAYER_X, 680, config, new GameRandom(1));
+            // Positions spread around the player, so some are hits and some are misses
+            GameRandom random = new GameRandom(entityCount);
+            xs = new double[entityCount];
+            ys = new double[entityCount];
+            for (int i = 0; i < entityCount; i++) {
+                xs[i] = PLAYER_X - 600 + random.nextDouble() * 1200;
+                ys[i] = PLAYER_Y - 300 + random.nextDouble() * 600;
+            }
+        }
+
+        /***
+         * Method that does nothing, as the workload does not change as it runs
+         */
+        public void reset() {
+        }
+    }
+
+    /**
+     * Class for the workload of testing the player for a collision with each position in turn.
+     */
+    public static class Collision extends PositionWorkload {
+        /***
+         * Method that tests the player for a collision with every position
+         * @return long Returns the number of collisions
+         */
+        public long run() {
+            long hits = 0;
+            for (int i = 0; i < xs.length; i++) {
+                if (CollisionDetector.isCollided(player, xs[i], ys[i], COLLISION_RADIUS)) {
+                    hits++;
+                }
+            }
+            return hits;
+        }
+    }
+
+    /**
+     * Class for the workload of testing if the enemy boss could throw a fireball at the player from each position
+     * in turn.
+     */
+    public static class FireballRange extends PositionWorkload {
+        /***
+         * Method that tests if the enemy boss could throw a fireball at the player from every position
+         * @return long Returns the number of positions in range
+         */
+        public long run() {
+            long inRange = 0;
+            for (int i = 0; i < xs.length; i++) {
+                if (enemyBoss.canThrowFireball(player, xs[i], ys[i])) {
+                    inRange++;
+                }
+            }
+            return inRange;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class that benchmarks the hot paths of the game at 1,000, 10,000 and 100,000 game objects, without a window.
+ * Each benchmark runs its workload once per operation, so the score of the level update is the time per
+ * simulation tick, and the scores of the position tests are the time to test every position.
+ * <p>
+ * Every generated level packs its game objects into the same 6000 pixels as the shipped levels, so the count
+ * measures density: the more objects, the more of them are near the player and tested for collisions each tick,
+ * as well as moved. Enemies that would crowd the player's path are put above the reach of a jump, so the player
+ * survives at every count and reaches the enemy boss and end flag within about 1200 ticks, and the level update
+ * covers the boss fight and the end of the level as well as the walk through the objects.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class GameBenchmarks {
+
+    /**
+     * Class for the state shared by every benchmark: the workload, built once for each number of game objects.
+     */
+    @State(Scope.Thread)
+    public abstract static class WorkloadState {
+        @Param({"1000", "10000", "100000"})
+        public int entityCount;
+        protected Workload workload;
+
+        /***
+         * Method that gets and returns the name of the workload class to benchmark
+         * @return String Returns the binary name of the workload class
+         */
+        protected abstract String getWorkloadName();
+
+        /***
+         * Method that creates and builds the workload, once for each number of game objects
+         * @throws Exception If the workload cannot be built
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            workload = Workload.load(getWorkloadName());
+            workload.setUp(entityCount);
+        }
+
+        /***
+         * Method that returns the workload to its starting state before each iteration
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            workload.reset();
+        }
+    }
+
+    /**
+     * Class for the state of the level update benchmark.
+     */
+    public static class LevelUpdateState extends WorkloadState {
+        protected String getWorkloadName() {
+            return "Workloads$LevelUpdate";
+        }
+    }
+
+    /**
+     * Class for the state of the level load benchmark.
+     */
+    public static class LevelLoadState extends WorkloadState {
+        protected String getWorkloadName() {
+            return "Workloads$LevelLoad";
+        }
+    }
+
+    /**
+     * Class for the state of the CSV level file reading benchmark.
+     */
+    public static class CsvReadState extends WorkloadState {
+        protected String getWorkloadName() {
+            return "Workloads$CsvRead";
+        }
+    }
+
+    /**
+     * Class for the state of the collision benchmark.
+     */
+    public static class CollisionState extends WorkloadState {
+        protected String getWorkloadName() {
+            return "Workloads$Collision";
+        }
+    }
+
+    /**
+     * Class for the state of the fireball range benchmark.
+     */
+    public static class FireballRangeState extends WorkloadState {
+        protected String getWorkloadName() {
+            return "Workloads$FireballRange";
+        }
+    }
+
+    /***
+     * Method that benchmarks one simulation tick of a level, Level.updateGameObjects
+     * @param state Workload of the level
+     * @return long Returns the score, consumed by the benchmark
+     */
+    @Benchmark
+    public long levelUpdate(LevelUpdateState state) {
+        return state.workload.run();
+    }
+
+    /***
+     * Method that benchmarks populating a level with its game objects from its cached template
+     * @param state Workload of the level
+     * @return long Returns a value from the level, consumed by the benchmark
+     */
+    @Benchmark
+    public long levelLoad(LevelLoadState state) {
+        return state.workload.run();
+    }
+
+    /***
+     * Method that benchmarks reading a whole CSV level file
+     * @param state Workload of the level file
+     * @return long Returns a value from the game objects read, consumed by the benchmark
+     */
+    @Benchmark
+    public long csvRead(CsvReadState state) {
+        return state.workload.run();
+    }
+
+    /***
+     * Method that benchmarks CollisionDetector.isCollided between the player and every position
+     * @param state Workload of the positions
+     * @return long Returns the number of collisions, consumed by the benchmark
+     */
+    @Benchmark
+    public long collision(CollisionState state) {
+        return state.workload.run();
+    }
+
+    /***
+     * Method that benchmarks FireThrower.canThrowFireball from the enemy boss at every position
+     * @param state Workload of the positions
+     * @return long Returns the number of positions in range, consumed by the benchmark
+     */
+    @Benchmark
+    public long fireballRange(FireballRangeState state) {
+        return state.workload.run();
+    }
+}
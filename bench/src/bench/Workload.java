@@ -0,0 +1,39 @@
+package bench;
+
+/**
+ * Interface for a piece of game code to benchmark. The game's classes are in the default package, which a
+ * benchmark cannot refer to, and JMH will not generate benchmarks in the default package. Each workload is
+ * therefore written in the default package against this interface, and the benchmarks load it by name.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public interface Workload {
+    /***
+     * Method that builds everything the workload needs, once before it is measured
+     * @param entityCount Number of game objects in the generated level, or positions to test against
+     * @throws Exception If the workload cannot be built
+     */
+    public void setUp(int entityCount) throws Exception;
+
+    /***
+     * Method that returns the workload to its starting state before each measurement iteration
+     */
+    public void reset();
+
+    /***
+     * Method that runs the code being measured once
+     * @return long Returns a value computed by the code, to be consumed so the code is not optimised away
+     */
+    public long run();
+
+    /***
+     * Method that creates a workload written in the default package
+     * @param className Binary name of the workload class, such as "Workloads$LevelUpdate"
+     * @return Workload Returns a new instance of the workload
+     * @throws ReflectiveOperationException If the class cannot be found or created
+     */
+    public static Workload load(String className) throws ReflectiveOperationException {
+        return (Workload) Class.forName(className).getDeclaredConstructor().newInstance();
+    }
+}
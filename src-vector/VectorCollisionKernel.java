@@ -0,0 +1,58 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Class that implements the batch collision test with the Java Vector API, testing as many circles at once as
+ * the CPU's vector registers hold. Only built by the vector-api Maven profile.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class VectorCollisionKernel extends ScalarCollisionKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /***
+     * Method that tests a circle against a batch of circles stored as columns of coordinates, a full vector of
+     * circles at a time, leaving any remainder to the scalar loop
+     * @param x Horizontal position of the circle to test against
+     * @param y Vertical position of the circle to test against
+     * @param radius Radius of the circle to test against
+     * @param xs Horizontal positions of the batch
+     * @param ys Vertical positions of the batch
+     * @param radii Radii of the batch
+     * @param from Index of the first circle in the batch to test
+     * @param to Index after the last circle in the batch to test
+     * @param hits Bitmask to write the results to, at least (to - from + 63) / 64 words long
+     */
+    @Override
+    public void collide(double x, double y, double radius, double[] xs, double[] ys, double[] radii, int from,
+                        int to, long[] hits) {
+        clearHits(hits, to - from);
+        int lanes = SPECIES.length();
+        int i = from, upperBound = from + SPECIES.loopBound(to - from);
+
+        for (; i < upperBound; i += lanes) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, i).sub(x);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, i).sub(y);
+            DoubleVector reach = DoubleVector.fromArray(SPECIES, radii, i).add(radius);
+            long mask = dx.mul(dx).add(dy.mul(dy)).compare(VectorOperators.LE, reach.mul(reach)).toLong();
+
+            // Lanes never exceed 64, so a vector's results span at most two words of the bitmask
+            int bit = i - from, shift = bit & 63;
+            hits[bit >>> 6] |= mask << shift;
+            if (shift + lanes > 64) {
+                hits[(bit >>> 6) + 1] |= mask >>> (64 - shift);
+            }
+        }
+
+        // Test the circles left over after the last full vector
+        for (; i < to; i++) {
+            double dx = xs[i] - x, dy = ys[i] - y, reach = radius + radii[i];
+            if (dx * dx + dy * dy <= reach * reach) {
+                int bit = i - from;
+                hits[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class for the Java Flight Recorder event of reading an asset file from disk, or of creating the image or fonts
+ * from it on the window's thread. Nothing is recorded unless a flight recording is running.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+@Name("shadowmario.AssetLoad")
+@Label("Asset Load")
+@Category("Shadow Mario")
+@Description("Reading an asset file, or uploading the image or fonts made from it")
+public class AssetLoadEvent extends Event {
+    @Label("Asset File")
+    String file;
+
+    @Label("Stage")
+    @Description("Either read, on a worker thread, or upload, on the window's thread")
+    String stage;
+}
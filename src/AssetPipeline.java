@@ -0,0 +1,199 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+/**
+ * Class that loads every image and font referenced in the game properties at startup. Worker threads read and
+ * check the asset files in parallel, starting before the window is opened, while the images and fonts themselves
+ * are created on the thread that owns the window, since only that thread can upload them to the graphics card.
+ * Bagel only loads images and fonts from a file path and reads each file again itself, so the bytes the workers
+ * read are only used to check the file is a valid image or font. Reading them also warms the operating system's
+ * page cache, so bagel's own read is less likely to wait on the disk.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class AssetPipeline {
+    // Version tags a font file can start with: TrueType, Apple TrueType, OpenType with PostScript outlines and a
+    // font collection
+    private static final int[] FONT_TAGS = {0x00010000, 0x74727565, 0x4F54544F, 0x74746366};
+    private final GameConfig CONFIG;
+    private final List<String> FILES;
+    private final List<Future<Long>> READS = new ArrayList<Future<Long>>();
+    private final ExecutorService WORKERS;
+    private final long START_TIME = System.nanoTime();
+
+    /**
+     * Constructor method for asset pipeline class to start reading every asset file on worker threads
+     * @param CONFIG Parsed game properties to access the image and font files
+     */
+    private AssetPipeline(GameConfig CONFIG) {
+        this.CONFIG = CONFIG;
+        LinkedHashSet<String> files = new LinkedHashSet<String>(CONFIG.getImageFiles());
+        files.add(CONFIG.getFontFile());
+        this.FILES = new ArrayList<String>(files);
+
+        int threads = Math.max(1, Math.min(FILES.size(), Runtime.getRuntime().availableProcessors()));
+        this.WORKERS = Executors.newFixedThreadPool(threads, runnable -> {
+            // Workers must not keep the game running once the window has closed
+            Thread thread = new Thread(runnable, "asset-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (String file : FILES) {
+            boolean font = file.equals(CONFIG.getFontFile());
+            READS.add(WORKERS.submit(() -> readFile(file, font)));
+        }
+        WORKERS.shutdown();
+    }
+
+    /***
+     * Method that starts reading every asset file referenced in the game properties on worker threads
+     * @param CONFIG Parsed game properties to access the image and font files
+     * @return AssetPipeline Returns the pipeline, to be finished on the window's thread once the window is open
+     */
+    public static AssetPipeline start(GameConfig CONFIG) {
+        return new AssetPipeline(CONFIG);
+    }
+
+    /***
+     * Method that reads a whole asset file on a worker thread and checks it is an image or font, so a missing or
+     * broken asset is reported by name before bagel tries to load it. The bytes are not kept, as bagel reads the
+     * file again itself.
+     * @param file Path to the asset file
+     * @param font Whether the file is a font rather than an image
+     * @return long Returns the time taken to read and check the file in nanoseconds
+     * @throws IOException If the file cannot be read or is not a valid image or font
+     */
+    private static long readFile(String file, boolean font) throws IOException {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        byte[] bytes = Files.readAllBytes(Paths.get(file));
+        if (font) {
+            checkFont(file, bytes);
+        } else {
+            checkImage(file, bytes);
+        }
+        long read = System.nanoTime() - start;
+        if (event.shouldCommit()) {
+            event.file = file;
+            event.stage = "read";
+            event.commit();
+        }
+        return read;
+    }
+
+    /***
+     * Method that checks the contents of a font file start with the version tag of a font format
+     * @param file Path to the font file
+     * @param bytes Contents of the font file
+     * @throws IOException If the contents are not a font
+     */
+    private static void checkFont(String file, byte[] bytes) throws IOException {
+        if (bytes.length >= 4) {
+            int tag = ByteBuffer.wrap(bytes).getInt(0);
+            for (int fontTag : FONT_TAGS) {
+                if (tag == fontTag) {
+                    return;
+                }
+            }
+        }
+        throw new IOException("Not a TrueType or OpenType font file " + file);
+    }
+
+    /***
+     * Method that checks the contents of an image file are in a known image format with a valid size, reading
+     * only the image's header rather than decoding it
+     * @param file Path to the image file
+     * @param bytes Contents of the image file
+     * @throws IOException If the contents are not an image or its header cannot be read
+     */
+    private static void checkImage(String file, byte[] bytes) throws IOException {
+        try (ImageInputStream stream = new MemoryCacheImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image file " + file);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream);
+                if (reader.getWidth(0) <= 0 || reader.getHeight(0) <= 0) {
+                    throw new IOException("Image file " + file + " has no pixels");
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /***
+     * Method that waits for the asset files to be read, then creates every image and every font size used on the
+     * window's thread, logging how long each asset took to read and to upload. Called once the window is open and
+     * before the title screen is drawn.
+     */
+    public void finish() {
+        long readNanos = 0, uploadNanos = 0;
+        for (int i = 0; i < FILES.size(); i++) {
+            String file = FILES.get(i);
+            long read = awaitRead(i);
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            long start = System.nanoTime();
+            if (file.equals(CONFIG.getFontFile())) {
+                for (int fontSize : CONFIG.getFontSizes()) {
+                    AssetRegistry.getFont(file, fontSize);
+                }
+            } else {
+                AssetRegistry.getImage(file);
+            }
+            long upload = System.nanoTime() - start;
+            if (event.shouldCommit()) {
+                event.file = file;
+                event.stage = "upload";
+                event.commit();
+            }
+            readNanos += read;
+            uploadNanos += upload;
+            System.out.printf("Asset %s: read and checked in %.1f ms, uploaded in %.1f ms%n", file,
+                    read / 1_000_000.0, upload / 1_000_000.0);
+        }
+        System.out.printf("Assets: %d files read and checked in %.1f ms across threads, uploaded in %.1f ms, " +
+                "ready %.1f ms after startup%n", FILES.size(), readNanos / 1_000_000.0, uploadNanos / 1_000_000.0,
+                (System.nanoTime() - START_TIME) / 1_000_000.0);
+    }
+
+    /***
+     * Method that waits for a worker thread to finish reading an asset file
+     * @param index Index of the asset file
+     * @return long Returns the time taken to read the file in nanoseconds
+     */
+    private long awaitRead(int index) {
+        try {
+            return READS.get(index).get();
+        } catch (ExecutionException ex) {
+            ex.getCause().printStackTrace();
+            System.exit(-1);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        return 0;
+    }
+}
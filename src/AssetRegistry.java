@@ -0,0 +1,93 @@
+import bagel.Font;
+import bagel.Image;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class that loads each sprite image and font once and shares it between all entities and text that draw it.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class AssetRegistry {
+    private static final Map<String, Image> IMAGES = new HashMap<String, Image>();
+    private static final Map<String, Font> FONTS = new HashMap<String, Font>();
+    private static long hits = 0, misses = 0, loadTimeNanos = 0;
+
+    /***
+     * Method that gets and returns the image stored at the given file, loading it from disk only the first time
+     * it is requested
+     * @param imageFile Path to the image file
+     * @return Image Returns the shared image object for the given file
+     */
+    public static Image getImage(String imageFile) {
+        Image image = IMAGES.get(imageFile);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+
+        // Image has not been requested before, so load it from disk and time how long the load took
+        misses++;
+        long start = System.nanoTime();
+        image = new Image(imageFile);
+        loadTimeNanos += System.nanoTime() - start;
+        IMAGES.put(imageFile, image);
+        return image;
+    }
+
+    /***
+     * Method that gets and returns the font of the given file and size, loading it only the first time it is
+     * requested
+     * @param fontFile Path to the font file
+     * @param fontSize Size of the font
+     * @return Font Returns the shared font object for the given file and size
+     */
+    public static Font getFont(String fontFile, int fontSize) {
+        String key = fontFile + "@" + fontSize;
+        Font font = FONTS.get(key);
+        if (font != null) {
+            hits++;
+            return font;
+        }
+
+        misses++;
+        long start = System.nanoTime();
+        font = new Font(fontFile, fontSize);
+        loadTimeNanos += System.nanoTime() - start;
+        FONTS.put(key, font);
+        return font;
+    }
+
+    /***
+     * Method that gets and returns the number of image and font requests served from the registry
+     * @return long Returns the number of cache hits
+     */
+    public static long getHits() {
+        return hits;
+    }
+
+    /***
+     * Method that gets and returns the number of image and font requests that had to load from disk
+     * @return long Returns the number of cache misses
+     */
+    public static long getMisses() {
+        return misses;
+    }
+
+    /***
+     * Method that gets and returns the total time spent loading images and fonts from disk
+     * @return double Returns the total load time in milliseconds
+     */
+    public static double getLoadTimeMillis() {
+        return loadTimeNanos / 1_000_000.0;
+    }
+
+    /***
+     * Method that prints the registry counters to the console
+     */
+    public static void printStatistics() {
+        System.out.printf("Assets: %d images and %d fonts loaded in %.1f ms (%d hits, %d misses)%n",
+                IMAGES.size(), FONTS.size(), getLoadTimeMillis(), hits, misses);
+    }
+}
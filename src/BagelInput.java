@@ -0,0 +1,56 @@
+import bagel.Input;
+import bagel.Keys;
+
+/**
+ * Class that passes the keyboard state of the bagel window through to the game. Key presses are latched until the
+ * end of the next simulation tick, so a press is neither lost in a frame that runs no ticks nor repeated in a
+ * frame that runs several.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class BagelInput implements GameInput {
+    private static final Keys[] KEYS = Keys.values();
+    private Input input;
+    private final boolean[] pressed = new boolean[KEYS.length];
+
+    /***
+     * Method that assigns the bagel input to read for the current frame, latching any keys pressed this frame
+     * @param input Input provided by the user
+     */
+    public void setInput(Input input) {
+        this.input = input;
+        for (Keys key : KEYS) {
+            if (input.wasPressed(key)) {
+                pressed[key.ordinal()] = true;
+            }
+        }
+    }
+
+    /***
+     * Method that clears the latched key presses once a simulation tick has seen them
+     */
+    public void endTick() {
+        for (int i = 0; i < pressed.length; i++) {
+            pressed[i] = false;
+        }
+    }
+
+    /***
+     * Method that determines if the given key is currently held down
+     * @param key Key to test
+     * @return boolean Returns if the key is held down
+     */
+    public boolean isDown(Keys key) {
+        return input.isDown(key);
+    }
+
+    /***
+     * Method that determines if the given key was pressed since the last simulation tick
+     * @param key Key to test
+     * @return boolean Returns if the key was pressed
+     */
+    public boolean wasPressed(Keys key) {
+        return pressed[key.ordinal()];
+    }
+}
@@ -0,0 +1,110 @@
+import bagel.DrawOptions;
+import bagel.Font;
+import bagel.Image;
+import bagel.util.Colour;
+import java.util.Arrays;
+
+/**
+ * Class that draws the game into the bagel window.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class BagelRenderer implements Renderer {
+    private final String FONT_FILE;
+    private final DrawOptions options = new DrawOptions();
+    // Fonts already fetched from the registry, indexed by size, so drawing text builds no lookup key
+    private Font[] fonts = new Font[0];
+
+    /**
+     * Constructor method for bagel renderer class to initialise object when instantiated
+     * @param FONT_FILE Path to the font file used for all text
+     */
+    public BagelRenderer(String FONT_FILE) {
+        this.FONT_FILE = FONT_FILE;
+    }
+
+    /***
+     * Method that draws an image centred at the given position
+     * @param imageFile Path to the image file
+     * @param x Horizontal position of the centre of the image
+     * @param y Vertical position of the centre of the image
+     */
+    public void drawImage(String imageFile, double x, double y) {
+        AssetRegistry.getImage(imageFile).draw(x, y);
+    }
+
+    /***
+     * Method that draws one image centred at each of a run of positions, so consecutive draws share the texture
+     * @param imageFile Path to the image file
+     * @param xs Horizontal positions of the centres of the images
+     * @param ys Vertical positions of the centres of the images
+     * @param from Index of the first position
+     * @param to Index after the last position
+     */
+    public void drawImages(String imageFile, double[] xs, double[] ys, int from, int to) {
+        Image image = AssetRegistry.getImage(imageFile);
+        for (int i = from; i < to; i++) {
+            image.draw(xs[i], ys[i]);
+        }
+    }
+
+    /***
+     * Method that draws a line of text with its bottom-left corner at the given position
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y) {
+        getFont(fontSize).drawString(text, x, y);
+    }
+
+    /***
+     * Method that draws a line of coloured text with its bottom-left corner at the given position
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     * @param colour Colour of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y, Colour colour) {
+        options.setBlendColour(colour);
+        getFont(fontSize).drawString(text, x, y, options);
+    }
+
+    /***
+     * Method that gets and returns the width a line of text takes up when drawn
+     * @param fontSize Size of the font to measure with
+     * @param text Text to measure
+     * @return double Returns the width of the text
+     */
+    public double getStringWidth(int fontSize, String text) {
+        return getFont(fontSize).getWidth(text);
+    }
+
+    /***
+     * Method that gets and returns the width of an image
+     * @param imageFile Path to the image file
+     * @return double Returns the width of the image
+     */
+    public double getImageWidth(String imageFile) {
+        return AssetRegistry.getImage(imageFile).getWidth();
+    }
+
+    /***
+     * Method that gets and returns the shared font of the given size, fetching it from the registry the first
+     * time each size is used
+     * @param fontSize Size of the font
+     * @return Font Returns the font object of the given size
+     */
+    private Font getFont(int fontSize) {
+        if (fontSize >= fonts.length) {
+            fonts = Arrays.copyOf(fonts, fontSize + 1);
+        }
+        if (fonts[fontSize] == null) {
+            fonts[fontSize] = AssetRegistry.getFont(FONT_FILE, fontSize);
+        }
+        return fonts[fontSize];
+    }
+}
@@ -0,0 +1,162 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Class that reads the game objects of a compiled binary level file. The file starts with a header holding the
+ * number of game objects of each type and the bounds of their positions, followed by one fixed-width record per
+ * game object. The player and platform come first, and the rest are sorted from left to right. Records are read
+ * straight from the buffer, so no text is parsed and nothing is allocated per game object.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class BinaryLevelReader implements LevelReader {
+    static final int MAGIC = 0x534D4C56, VERSION = 1;
+    // Each type of game object is stored as its index in this table
+    static final String[] TYPES = {"PLAYER", "PLATFORM", "ENEMY", "COIN", "END_FLAG", "DOUBLE_SCORE",
+            "INVINCIBLE_POWER", "ENEMY_BOSS", "FLYING_PLATFORM"};
+    // Magic number, version, record count, count of each type, then the minimum and maximum x and y
+    static final int HEADER_SIZE = 4 * (3 + TYPES.length + 4);
+    // Type, horizontal position and vertical position
+    static final int RECORD_SIZE = 12;
+    private final ByteBuffer BUFFER;
+    private final int RECORD_COUNT;
+    private int index = 0;
+    private String type;
+    private int x, y;
+
+    /**
+     * Constructor method for binary level reader class to check the header of the level file
+     * @param BUFFER Contents of the binary level file, usually memory-mapped
+     * @throws IOException If the contents are not a binary level file of this version
+     */
+    public BinaryLevelReader(ByteBuffer BUFFER) throws IOException {
+        if (BUFFER.limit() < HEADER_SIZE || BUFFER.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary level file");
+        }
+        if (BUFFER.getInt(4) != VERSION) {
+            throw new IOException("Unsupported binary level file version " + BUFFER.getInt(4));
+        }
+        this.BUFFER = BUFFER;
+        this.RECORD_COUNT = BUFFER.getInt(8);
+        if (RECORD_COUNT < 0 || BUFFER.limit() < HEADER_SIZE + (long) RECORD_COUNT * RECORD_SIZE) {
+            throw new IOException("Binary level file is truncated");
+        }
+    }
+
+    /***
+     * Method that reads the next record of the level file
+     * @return boolean Returns if a game object was read, or false once every record has been read
+     */
+    public boolean next() {
+        if (index == RECORD_COUNT) {
+            return false;
+        }
+        int position = HEADER_SIZE + index * RECORD_SIZE;
+        int typeIndex = BUFFER.getInt(position);
+        if (typeIndex < 0 || typeIndex >= TYPES.length) {
+            throw new IllegalArgumentException("Unknown game object type " + typeIndex + " in binary level file");
+        }
+        type = TYPES[typeIndex];
+        x = BUFFER.getInt(position + 4);
+        y = BUFFER.getInt(position + 8);
+        index++;
+        return true;
+    }
+
+    /***
+     * Method that finds the index of a type of game object in the type table
+     * @param type Type of the game object (e.g. "COIN")
+     * @return int Returns the index of the type
+     * @throws IllegalArgumentException If the type is not a known game object
+     */
+    static int typeIndex(String type) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].equals(type)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown game object type " + type);
+    }
+
+    /***
+     * Method that gets and returns the type of the game object last read (e.g. "COIN")
+     * @return String Returns the type of the game object
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /***
+     * Method that gets and returns the horizontal position of the game object last read
+     * @return int Returns the horizontal position of the game object
+     */
+    public int getX() {
+        return this.x;
+    }
+
+    /***
+     * Method that gets and returns the vertical position of the game object last read
+     * @return int Returns the vertical position of the game object
+     */
+    public int getY() {
+        return this.y;
+    }
+
+    /***
+     * Method that gets and returns the number of game objects in the level file
+     * @return int Returns the number of game objects
+     */
+    public int getRecordCount() {
+        return this.RECORD_COUNT;
+    }
+
+    /***
+     * Method that gets and returns the number of game objects of the given type in the level file, read from
+     * the header
+     * @param type Type of the game object (e.g. "COIN")
+     * @return int Returns the number of game objects of that type
+     */
+    public int getCount(String type) {
+        return BUFFER.getInt(12 + 4 * typeIndex(type));
+    }
+
+    /***
+     * Method that gets and returns the leftmost horizontal position of any game object in the level file
+     * @return int Returns the smallest horizontal position
+     */
+    public int getMinX() {
+        return BUFFER.getInt(HEADER_SIZE - 16);
+    }
+
+    /***
+     * Method that gets and returns the rightmost horizontal position of any game object in the level file
+     * @return int Returns the largest horizontal position
+     */
+    public int getMaxX() {
+        return BUFFER.getInt(HEADER_SIZE - 12);
+    }
+
+    /***
+     * Method that gets and returns the highest vertical position of any game object in the level file
+     * @return int Returns the smallest vertical position
+     */
+    public int getMinY() {
+        return BUFFER.getInt(HEADER_SIZE - 8);
+    }
+
+    /***
+     * Method that gets and returns the lowest vertical position of any game object in the level file
+     * @return int Returns the largest vertical position
+     */
+    public int getMaxY() {
+        return BUFFER.getInt(HEADER_SIZE - 4);
+    }
+
+    /***
+     * Method that closes the level file. A memory-mapped file is unmapped once the buffer is no longer used, so
+     * there is nothing to release here.
+     */
+    public void close() {
+    }
+}
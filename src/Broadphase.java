@@ -0,0 +1,197 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class that keeps the entities of one type sorted by horizontal position, so that only the entities near the
+ * player need to be tested for collisions. Entities can be added and dropped as the level streams in.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class Broadphase<T extends Entity> {
+    private static final int INITIAL_CAPACITY = 16;
+    private Object[] entities = new Object[INITIAL_CAPACITY];
+    private double[] positions = new double[INITIAL_CAPACITY], ys = new double[INITIAL_CAPACITY],
+            radii = new double[INITIAL_CAPACITY];
+    private long[] hits = new long[1];
+    private final double HALF_WIDTH;
+    private int size = 0, cursor = 0, queryStart = 0, queryEnd = 0;
+
+    /**
+     * Constructor method for broadphase class to initialise object when instantiated
+     * @param HALF_WIDTH Largest horizontal distance from an entity's position at which it can still collide
+     */
+    public Broadphase(double HALF_WIDTH) {
+        this.HALF_WIDTH = HALF_WIDTH;
+    }
+
+    /***
+     * Method that adds an entity. It takes its sorted place the next time the broadphase is refreshed.
+     * @param entity Entity to add, of the same type as the others
+     */
+    public void add(T entity) {
+        if (size == entities.length) {
+            int capacity = 2 * size;
+            entities = Arrays.copyOf(entities, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            radii = Arrays.copyOf(radii, capacity);
+            hits = new long[(capacity + 63) >>> 6];
+        }
+        entities[size] = entity;
+        positions[size] = entity.getX();
+        size++;
+    }
+
+    /***
+     * Method that drops every entity left of the given horizontal position, as of the last refresh
+     * @param minX Horizontal position left of which entities are dropped
+     * @param dropped List to add the dropped entities to, so they can be reused
+     * @return int Returns the number of entities dropped
+     */
+    @SuppressWarnings("unchecked")
+    public int removeBefore(double minX, List<T> dropped) {
+        // The entities are sorted, so those to drop are all at the start
+        int count = 0;
+        while (count < size && positions[count] < minX) {
+            dropped.add((T) entities[count]);
+            count++;
+        }
+        if (count > 0) {
+            System.arraycopy(entities, count, entities, 0, size - count);
+            System.arraycopy(positions, count, positions, 0, size - count);
+            System.arraycopy(ys, count, ys, 0, size - count);
+            System.arraycopy(radii, count, radii, 0, size - count);
+            Arrays.fill(entities, size - count, size, null);
+            size -= count;
+            cursor = Math.max(0, cursor - count);
+            queryStart = queryEnd = 0;
+        }
+        return count;
+    }
+
+    /***
+     * Method that drops every entity
+     * @param dropped List to add the dropped entities to, so they can be reused
+     */
+    @SuppressWarnings("unchecked")
+    public void clear(List<T> dropped) {
+        for (int i = 0; i < size; i++) {
+            dropped.add((T) entities[i]);
+        }
+        Arrays.fill(entities, 0, size, null);
+        size = cursor = queryStart = queryEnd = 0;
+    }
+
+    /***
+     * Method that re-reads the position of every entity and restores the sorted order. Entities barely move
+     * relative to each other between frames, so sorting from last frame's order takes close to linear time.
+     * The vertical positions and radii are then packed alongside so the collision kernel can read them in order.
+     */
+    public void refresh() {
+        for (int i = 0; i < size; i++) {
+            positions[i] = get(i).getX();
+        }
+
+        // Insertion sort, which only moves the few entities that overtook a neighbour since the last frame
+        for (int i = 1; i < size; i++) {
+            double x = positions[i];
+            if (x >= positions[i - 1]) {
+                continue;
+            }
+            Object entity = entities[i];
+            int j = i - 1;
+            while (j >= 0 && positions[j] > x) {
+                positions[j + 1] = positions[j];
+                entities[j + 1] = entities[j];
+                j--;
+            }
+            positions[j + 1] = x;
+            entities[j + 1] = entity;
+        }
+
+        for (int i = 0; i < size; i++) {
+            ys[i] = get(i).getY();
+            radii[i] = get(i).getRADIUS();
+        }
+    }
+
+    /***
+     * Method that finds the entities that may overlap the given horizontal range. The entities found are those
+     * from the query start index up to, but not including, the query end index.
+     * @param minX Left edge of the range
+     * @param maxX Right edge of the range
+     */
+    public void query(double minX, double maxX) {
+        double low = minX - HALF_WIDTH, high = maxX + HALF_WIDTH;
+
+        // The player moves only a little between frames, so walk from where the last query started rather than
+        // searching from scratch
+        int i = Math.min(cursor, size);
+        while (i > 0 && positions[i - 1] >= low) {
+            i--;
+        }
+        while (i < size && positions[i] < low) {
+            i++;
+        }
+        cursor = i;
+        queryStart = i;
+
+        while (i < size && positions[i] <= high) {
+            i++;
+        }
+        queryEnd = i;
+    }
+
+    /***
+     * Method that tests the entities found by the last query for collisions with the given entity in one batch
+     * @param target Reference to the FireThrower object, being either Player or Enemy Boss
+     */
+    public void collide(FireThrower target) {
+        CollisionDetector.collideBatch(target, positions, ys, radii, queryStart, queryEnd, hits);
+    }
+
+    /***
+     * Method that determines if the entity at the given position in the sorted order collided in the last batch
+     * @param index Position in the sorted order, found by the last query
+     * @return boolean Returns if the entity has collided
+     */
+    public boolean isHit(int index) {
+        int bit = index - queryStart;
+        return (hits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /***
+     * Method that gets and returns the index of the first entity found by the last query
+     * @return int Returns the first index found
+     */
+    public int getQueryStart() {
+        return queryStart;
+    }
+
+    /***
+     * Method that gets and returns the index after the last entity found by the last query
+     * @return int Returns the index after the last one found
+     */
+    public int getQueryEnd() {
+        return queryEnd;
+    }
+
+    /***
+     * Method that gets and returns the number of entities in the broadphase
+     * @return int Returns the number of entities
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /***
+     * Method that gets and returns the entity at the given position in the sorted order
+     * @param index Position in the sorted order
+     * @return T Returns the entity at that position
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) entities[index];
+    }
+}
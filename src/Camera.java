@@ -0,0 +1,220 @@
+import bagel.Keys;
+
+/**
+ * Class for the camera, which scrolls the view of the game world with the player's movement. Entities keep their
+ * positions in the game world, and the camera's offset is only applied when they are drawn. Entities outside the
+ * window, plus a margin, are culled rather than drawn.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class Camera {
+    private final int SPEED, VIEW_WIDTH, VIEW_HEIGHT, CULL_MARGIN;
+    private final double MIN_OFFSET, MAX_OFFSET;
+    private double offset = 0, previousOffset = 0, alpha = 1;
+    private int drawnCount = 0, culledCount = 0;
+
+    /**
+     * Constructor method for camera class to initialise object when instantiated
+     * @param MIN_OFFSET Smallest offset of the camera, reached at the left border of the game world
+     * @param MAX_OFFSET Largest offset of the camera, reached at the right border of the game world
+     * @param CONFIG Parsed game properties to access the scroll speed, window size and cull margin
+     */
+    public Camera(double MIN_OFFSET, double MAX_OFFSET, GameConfig CONFIG) {
+        // Every game object scrolls at the speed of the platform
+        this.SPEED = CONFIG.getPlatform().getSpeed();
+        this.MIN_OFFSET = MIN_OFFSET;
+        this.MAX_OFFSET = MAX_OFFSET;
+        this.VIEW_WIDTH = CONFIG.getWindowWidth();
+        this.VIEW_HEIGHT = CONFIG.getWindowHeight();
+        this.CULL_MARGIN = CONFIG.getCullMargin();
+    }
+
+    /***
+     * Method that scrolls the camera with the player's movement via the user input, moving the player through
+     * the game world so they stay at the same position on the screen
+     * @param input Input provided by the user
+     * @param target Reference to the Player object
+     */
+    public void update(GameInput input, Player target) {
+        previousOffset = offset;
+
+        // The view stops scrolling once the player has died
+        if (target.isDead()) {
+            return;
+        }
+
+        // Determines which direction to scroll based on the user's input, provided the player is not at the border
+        int movement = 0;
+        if (input.isDown(Keys.RIGHT) && !atRightBorder()) {
+            movement = SPEED;
+        } else if (input.isDown(Keys.LEFT) && !atLeftBorder()) {
+            movement = -SPEED;
+        }
+        offset += movement;
+        target.setX(target.getX() + movement);
+    }
+
+    /***
+     * Method that gets and returns if the player has reached the left border of the game world
+     * @return boolean Returns if the player has reached the left border of the game world
+     */
+    public boolean atLeftBorder() {
+        return offset <= MIN_OFFSET;
+    }
+
+    /***
+     * Method that gets and returns if the player has reached the right border of the game world
+     * @return boolean Returns if the player has reached the right border of the game world
+     */
+    public boolean atRightBorder() {
+        return offset >= MAX_OFFSET;
+    }
+
+    /***
+     * Method that converts a horizontal position in the game world to a horizontal position on the screen
+     * @param x Horizontal position in the game world
+     * @return double Returns the horizontal position on the screen
+     */
+    public double toScreenX(double x) {
+        return x - interpolate(previousOffset, offset);
+    }
+
+    /***
+     * Method that sets how far the frame being drawn is between the last two simulation ticks
+     * @param alpha Fraction of a tick since the last tick, from 0 to 1
+     */
+    public void setAlpha(double alpha) {
+        this.alpha = alpha;
+    }
+
+    /***
+     * Method that interpolates a value between its values at the last two simulation ticks, for the frame being
+     * drawn
+     * @param previous Value at the previous tick
+     * @param current Value at the latest tick
+     * @return double Returns the interpolated value, which is the latest value when the frame is drawn on a tick
+     */
+    public double interpolate(double previous, double current) {
+        return current - (current - previous) * (1 - alpha);
+    }
+
+    /***
+     * Method that determines if an image centred at the given position in the game world is close enough to the
+     * window to be seen. The cull margin must be at least half the size of the largest image culled this way.
+     * @param x Horizontal position in the game world
+     * @param y Vertical position in the game world
+     * @return boolean Returns if the position is within the window plus the cull margin
+     */
+    public boolean isVisible(double x, double y) {
+        return x >= getViewMinX() && x <= getViewMaxX() && y >= getViewMinY() && y <= getViewMaxY();
+    }
+
+    /***
+     * Method that draws an image at the given position in the game world if it can be seen, and counts it as
+     * drawn or culled
+     * @param renderer Renderer to draw the image with
+     * @param image Path to the image file
+     * @param x Horizontal position of the centre of the image in the game world
+     * @param y Vertical position of the centre of the image in the game world
+     */
+    public void drawImage(Renderer renderer, String image, double x, double y) {
+        if (isVisible(x, y)) {
+            renderer.drawImage(image, toScreenX(x), y);
+            drawnCount++;
+        } else {
+            culledCount++;
+        }
+    }
+
+    /***
+     * Method that counts images culled without being tested one at a time, such as those known to be far outside
+     * the window
+     * @param count Number of images culled
+     */
+    public void countCulled(int count) {
+        culledCount += count;
+    }
+
+    /***
+     * Method that resets the drawn and culled counts at the start of drawing a frame
+     */
+    public void resetCounts() {
+        drawnCount = 0;
+        culledCount = 0;
+    }
+
+    /***
+     * Method that gets and returns the number of images drawn in the current frame
+     * @return int Returns the number of images drawn
+     */
+    public int getDrawnCount() {
+        return this.drawnCount;
+    }
+
+    /***
+     * Method that gets and returns the number of images culled in the current frame
+     * @return int Returns the number of images culled
+     */
+    public int getCulledCount() {
+        return this.culledCount;
+    }
+
+    /***
+     * Method that gets and returns the leftmost horizontal position in the game world that can be seen, including
+     * the cull margin
+     * @return double Returns the leftmost visible horizontal position
+     */
+    public double getViewMinX() {
+        return offset - CULL_MARGIN;
+    }
+
+    /***
+     * Method that gets and returns the rightmost horizontal position in the game world that can be seen, including
+     * the cull margin
+     * @return double Returns the rightmost visible horizontal position
+     */
+    public double getViewMaxX() {
+        return offset + VIEW_WIDTH + CULL_MARGIN;
+    }
+
+    /***
+     * Method that gets and returns the highest vertical position that can be seen, including the cull margin
+     * @return double Returns the highest visible vertical position
+     */
+    public double getViewMinY() {
+        return -CULL_MARGIN;
+    }
+
+    /***
+     * Method that gets and returns the lowest vertical position that can be seen, including the cull margin
+     * @return double Returns the lowest visible vertical position
+     */
+    public double getViewMaxY() {
+        return VIEW_HEIGHT + CULL_MARGIN;
+    }
+
+    /***
+     * Method that gets and returns the leftmost horizontal position in the game world the camera can show
+     * @return double Returns the left edge of the game world
+     */
+    public double getWorldMinX() {
+        return MIN_OFFSET;
+    }
+
+    /***
+     * Method that gets and returns the rightmost horizontal position in the game world the camera can show
+     * @return double Returns the right edge of the game world
+     */
+    public double getWorldMaxX() {
+        return MAX_OFFSET + VIEW_WIDTH;
+    }
+
+    /***
+     * Method that gets and returns the horizontal position of the left edge of the screen in the game world
+     * @return double Returns the offset of the camera
+     */
+    public double getOffset() {
+        return this.offset;
+    }
+}
@@ -1,7 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import java.util.Properties;
-
 /**
  * Class for the coin entity.
  * Adapted from SWEN20003 Project 1 Solution by Dimuthu Kariyawasan & Tharun Dharmawickrema.
@@ -11,48 +7,29 @@ import java.util.Properties;
  */
 public class Coin extends Collectable {
     private final int VALUE;
-    private boolean isCollided = false;
 
     /**
      * Constructor method for coin class to initialise object when instantiated
-     * @param x Horizontal position of entity in game environment
-     * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public Coin(double x, double y, Properties PROPS) {
+    public Coin(GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.coin.radius")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.coin.speed")),
-                new Image(PROPS.getProperty("gameObjects.coin.image")));
+        super(CONFIG.getCoin().getRadius(), CONFIG.getCoin().getSpeed(), CONFIG.getCoin().getImage());
 
         // Assigns coin with value stored in game properties file
-        this.VALUE = Integer.parseInt(PROPS.getProperty("gameObjects.coin.value"));
+        this.VALUE = CONFIG.getCoin().getValue();
     }
 
     /***
-     * Method that updates the coin movement and draws it. Also checks for collisions with the player.
-     * @param input Input provided by the user
+     * Method that implements abstract method defined in super-class to collect a coin.
      * @param target Reference to the Player object
      * @return int Value to be added towards the total score
      */
-    public int updateWithTarget(Input input, Player target) {
-        // Moves entity in accordance with player movement and draws entity
-        updateEntity(input, target);
-
-        // Tests if a collision with the player and the coin has occurred using the CollisionDetector class
-        if (CollisionDetector.isCollided(target, getX(), getY(), getRADIUS()) && !isCollided) {
-            // If collision occurs, start moving coin vertically upwards
-            isCollided = true;
-            setSpeedY();
-
-            // Tests if double score power-up is active to determine coin collection value
-            if (target.doubleScoreActive()) {
-                return 2 * VALUE;
-            }
-            return VALUE;
+    public int collect(Player target) {
+        // Tests if double score power-up is active to determine coin collection value
+        if (target.doubleScoreActive()) {
+            return 2 * VALUE;
         }
-        return 0;
+        return VALUE;
     }
-
-
 }
\ No newline at end of file
@@ -1,58 +1,38 @@
-import bagel.*;
-
 /**
- * Abstract Super-Class for collectable entities.
+ * Abstract Super-Class for collectable entities. Collectables are stored as columns in a CollectableStore, so a
+ * single object of each type describes every collectable of that type and applies the effect of collecting one.
  *
  * @author Lachlan Chue
  * @version 1.16
  */
-public abstract class Collectable extends Entity implements VerticallyMovable {
-    private final int COLLISION_SPEED = -10;
-    private int speedY = 0;
+public abstract class Collectable extends Entity {
+    private static final int COLLISION_SPEED = -10;
 
     /**
      * Constructor method for collectable entity class to initialise object when
      * instantiated
-     * @param x Horizontal position of entity in game environment
-     * @param y Vertical position of entity in game environment
      * @param RADIUS Collision radius value of given entity
      * @param SPEED_X Horizontal movement speed of entity with player movement
-     * @param image Image object of entity to be drawn
+     * @param image Path to the image file of entity to be drawn
      */
-    public Collectable(double x, double y, double RADIUS, int SPEED_X, Image image) {
-        // Calls the superclass constructor to instantiate object
-        super(x, y, RADIUS, SPEED_X, image);
+    public Collectable(double RADIUS, int SPEED_X, String image) {
+        // Calls the superclass constructor to instantiate object. The position of each collectable is kept by the
+        // store, so the shared object sits at the origin.
+        super(0, 0, RADIUS, SPEED_X, image);
     }
 
     /***
-     * Method that sets the vertical speed of the collectable item to move it upwards after its collected
+     * Method that gets and returns the vertical speed a collectable moves at after it has been collected
+     * @return int Returns the vertical speed after collection
      */
-    public void setSpeedY() {
-        speedY = COLLISION_SPEED;
+    public int getCollisionSpeed() {
+        return COLLISION_SPEED;
     }
 
     /***
-     * Method that updates the movement of the collectable to move vertically up every frame and move horizontally
-     * with the player. Also draws the collectable entity.
-     * @param input Input provided by the user
+     * Method that defines abstract method to apply the effect of the player collecting one of these entities.
      * @param target Reference to the Player object
+     * @return int Value to be added towards the total score
      */
-    @Override
-    public void updateEntity(Input input, Player target) {
-        // Move the entity horizontally with the player's movement if the player is not dead and update its
-        // vertical movement. Draws the entity into the game environment.
-        if (!target.isDead()) {
-            moveEntityWithPlayer(input, target);
-        }
-        moveY();
-        drawEntity();
-    }
-
-    /***
-     * Method that implements vertical movement method that increments the vertical position of the entity by the
-     * vertical speed
-     */
-    public void moveY() {
-        setY(getY() + speedY);
-    }
+    public abstract int collect(Player target);
 }
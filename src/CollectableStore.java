@@ -0,0 +1,272 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Class that stores every coin and power-up of a level as columns of primitive values rather than as one object
+ * each. Each collectable is a position, a radius, a type tag and a bit for whether it has been collected, while
+ * the image, speed and effect of each type are held once by a shared Collectable object. Once collected, a
+ * collectable is retired: it is copied to a short list of collectables flying off the top of the window, and is
+ * dropped from the columns the next time they are compacted.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class CollectableStore {
+    private static final int INITIAL_CAPACITY = 64, COMPACT_FRACTION = 8;
+    private final Collectable[] TYPES;
+    private final double MAX_RADIUS;
+    private double[] xs = new double[INITIAL_CAPACITY], ys = new double[INITIAL_CAPACITY],
+            radii = new double[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private double[] flyingXs = new double[INITIAL_CAPACITY], flyingYs = new double[INITIAL_CAPACITY],
+            flyingPreviousYs = new double[INITIAL_CAPACITY];
+    private byte[] flyingTypes = new byte[INITIAL_CAPACITY];
+    private long[] hits = new long[(INITIAL_CAPACITY + 63) >>> 6];
+    private final BitSet retired = new BitSet();
+    private int size = 0, retiredCount = 0, flyingCount = 0;
+
+    /**
+     * Constructor method for collectable store class to initialise object when instantiated
+     * @param TYPES Shared object of each type of collectable, with the index of each one used as its type tag.
+     *              Collectables collected in the same frame take effect in the order of their types.
+     */
+    public CollectableStore(Collectable... TYPES) {
+        this.TYPES = TYPES;
+        double maxRadius = 0;
+        for (Collectable type : TYPES) {
+            maxRadius = Math.max(maxRadius, type.getRADIUS());
+        }
+        this.MAX_RADIUS = maxRadius;
+    }
+
+    /***
+     * Method that adds a collectable of the given type at the given position, keeping the columns sorted by
+     * horizontal position. Level files list objects from left to right, so collectables are almost always
+     * appended.
+     * @param type Type tag of the collectable, being its index in the types given to the constructor
+     * @param x Horizontal position of the collectable in game environment
+     * @param y Vertical position of the collectable in game environment
+     */
+    public void add(int type, double x, double y) {
+        if (size == xs.length) {
+            int capacity = 2 * size;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            radii = Arrays.copyOf(radii, capacity);
+            types = Arrays.copyOf(types, capacity);
+            hits = new long[(capacity + 63) >>> 6];
+        }
+
+        // A collectable out of order is shifted into place. The retired ones are removed first so each retired
+        // bit stays with its collectable.
+        int index = upperBound(x);
+        if (index < size && retiredCount > 0) {
+            compact(0);
+            index = upperBound(x);
+        }
+        int after = size - index;
+        System.arraycopy(xs, index, xs, index + 1, after);
+        System.arraycopy(ys, index, ys, index + 1, after);
+        System.arraycopy(radii, index, radii, index + 1, after);
+        System.arraycopy(types, index, types, index + 1, after);
+
+        xs[index] = x;
+        ys[index] = y;
+        radii[index] = TYPES[type].getRADIUS();
+        types[index] = (byte) type;
+        size++;
+    }
+
+    /***
+     * Method that removes every collectable, keeping the columns to be filled again by the next level
+     */
+    public void clear() {
+        size = 0;
+        retired.clear();
+        retiredCount = 0;
+        flyingCount = 0;
+    }
+
+    /***
+     * Method that moves the collectables already collected vertically up the window, and removes those that
+     * have left the camera's view. The columns are compacted once enough collectables have been retired or have
+     * fallen behind the given position.
+     * @param camera Camera viewing the game world
+     * @param minX Horizontal position left of which collectables are dropped from the level
+     */
+    public void update(Camera camera, double minX) {
+        int i = 0;
+        while (i < flyingCount) {
+            flyingPreviousYs[i] = flyingYs[i];
+            flyingYs[i] += TYPES[flyingTypes[i]].getCollisionSpeed();
+            if (flyingYs[i] < camera.getViewMinY()) {
+                // Reuse the slot by moving the last flying collectable into it, then check that one next
+                flyingCount--;
+                flyingXs[i] = flyingXs[flyingCount];
+                flyingYs[i] = flyingYs[flyingCount];
+                flyingPreviousYs[i] = flyingPreviousYs[flyingCount];
+                flyingTypes[i] = flyingTypes[flyingCount];
+            } else {
+                i++;
+            }
+        }
+
+        int dropCount = lowerBound(minX);
+        int removable = retiredCount + dropCount;
+        if (removable > 0 && removable >= size / COMPACT_FRACTION) {
+            compact(dropCount);
+        }
+    }
+
+    /***
+     * Method that retires a collected collectable, copying it to the flying collectables so it can move off the
+     * top of the window
+     * @param index Index of the collectable in the columns
+     */
+    private void retire(int index) {
+        retired.set(index);
+        retiredCount++;
+        if (flyingCount == flyingXs.length) {
+            int capacity = 2 * flyingCount;
+            flyingXs = Arrays.copyOf(flyingXs, capacity);
+            flyingYs = Arrays.copyOf(flyingYs, capacity);
+            flyingPreviousYs = Arrays.copyOf(flyingPreviousYs, capacity);
+            flyingTypes = Arrays.copyOf(flyingTypes, capacity);
+        }
+        flyingXs[flyingCount] = xs[index];
+        flyingYs[flyingCount] = ys[index];
+        flyingPreviousYs[flyingCount] = ys[index];
+        flyingTypes[flyingCount] = types[index];
+        flyingCount++;
+    }
+
+    /***
+     * Method that removes the retired collectables and the given number of leftmost collectables from the columns,
+     * keeping them sorted by horizontal position. The freed space at the end of the columns is reused by later
+     * collectables.
+     * @param dropCount Number of collectables to drop from the start of the columns
+     */
+    private void compact(int dropCount) {
+        int write = 0;
+        for (int i = dropCount; i < size; i++) {
+            if (!retired.get(i)) {
+                xs[write] = xs[i];
+                ys[write] = ys[i];
+                radii[write] = radii[i];
+                types[write] = types[i];
+                write++;
+            }
+        }
+        size = write;
+        retired.clear();
+        retiredCount = 0;
+    }
+
+    /***
+     * Method that checks the collectables near the player for collisions and collects those that have not been
+     * collected yet
+     * @param target Reference to the Player object
+     * @return int Value to be added towards the total score
+     */
+    public int collideWithTarget(Player target) {
+        // Only the collectables whose horizontal position is within reach of the player can collide
+        double reach = target.getRADIUS() + MAX_RADIUS;
+        int from = lowerBound(target.getX() - reach);
+        int to = from;
+        while (to < size && xs[to] <= target.getX() + reach) {
+            to++;
+        }
+        CollisionDetector.collideBatch(target, xs, ys, radii, from, to, hits);
+
+        // Collect in the order of the types, so a double score collected this frame only doubles coins collected
+        // in later frames
+        int score = 0;
+        for (int type = 0; type < TYPES.length; type++) {
+            for (int i = from; i < to; i++) {
+                int bit = i - from;
+                if ((hits[bit >>> 6] & (1L << bit)) != 0 && types[i] == type && !retired.get(i)) {
+                    // If collision occurs, start moving the collectable vertically upwards and apply its effect
+                    retire(i);
+                    score += TYPES[type].collect(target);
+                }
+            }
+        }
+        return score;
+    }
+
+    /***
+     * Method that finds the first collectable whose horizontal position is at least the given value
+     * @param x Horizontal position to search for
+     * @return int Returns the index found, or the number of collectables if there is none
+     */
+    private int lowerBound(double x) {
+        int from = 0, to = size;
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (xs[middle] < x) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /***
+     * Method that finds the first collectable whose horizontal position is greater than the given value
+     * @param x Horizontal position to search for
+     * @return int Returns the index found, or the number of collectables if there is none
+     */
+    private int upperBound(double x) {
+        int from = 0, to = size;
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (xs[middle] <= x) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /***
+     * Method that draws the collectables in view at their current position in the game environment, as seen by
+     * the camera. The collectables are sorted by horizontal position, so only those within the camera's horizontal
+     * view are visited. Collected collectables are drawn from the flying list instead of the columns.
+     * @param renderer Renderer to draw the collectables with
+     * @param camera Camera viewing the game world
+     */
+    public void draw(Renderer renderer, Camera camera) {
+        int from = lowerBound(camera.getViewMinX());
+        int to = from;
+        while (to < size && xs[to] <= camera.getViewMaxX()) {
+            if (!retired.get(to)) {
+                camera.drawImage(renderer, TYPES[types[to]].getImage(), xs[to], ys[to]);
+            }
+            to++;
+        }
+        camera.countCulled(size - (to - from));
+
+        for (int i = 0; i < flyingCount; i++) {
+            camera.drawImage(renderer, TYPES[flyingTypes[i]].getImage(), flyingXs[i],
+                    camera.interpolate(flyingPreviousYs[i], flyingYs[i]));
+        }
+    }
+
+    /***
+     * Method that gets and returns the number of collectables not yet collected
+     * @return int Returns the number of collectables left to collect
+     */
+    public int size() {
+        return size - retiredCount;
+    }
+
+    /***
+     * Method that gets and returns the number of collected collectables still flying up the window
+     * @return int Returns the number of flying collectables
+     */
+    public int getFlyingCount() {
+        return this.flyingCount;
+    }
+}
@@ -6,6 +6,8 @@
  * @version 1.16
  */
 public class CollisionDetector {
+    private static final CollisionKernel KERNEL = createKernel();
+
     /**
      * Method that checks for a collision between the fire thrower entity (player/enemy boss) and the given entity's
      * position.
@@ -16,7 +18,53 @@ public class CollisionDetector {
      * @return boolean Indicates if a collision has occurred
      */
     public static boolean isCollided(FireThrower target, double x, double y, double radius) {
-        return Math.sqrt(Math.pow(target.getX() - x, 2) +
-                Math.pow(target.getY() - y, 2)) <= target.getRADIUS() + radius;
+        return KERNEL.overlaps(target.getX(), target.getY(), x, y, target.getRADIUS() + radius);
     }
-}
\ No newline at end of file
+
+    /**
+     * Method that checks if the fire thrower entity (player/enemy boss) is strictly closer than the given range to
+     * the given position.
+     * @param target Reference to the FireThrower object, being either Player or Enemy Boss
+     * @param x Horizontal position to measure from
+     * @param y Vertical position to measure from
+     * @param range Distance the entity must be closer than
+     * @return boolean Indicates if the entity is within range
+     */
+    public static boolean isWithinRange(FireThrower target, double x, double y, double range) {
+        // The kernel includes its boundary, so shrink the range by the smallest possible step to exclude it
+        return KERNEL.overlaps(target.getX(), target.getY(), x, y, Math.nextDown(range));
+    }
+
+    /**
+     * Method that checks for collisions between the fire thrower entity (player/enemy boss) and a batch of entities
+     * stored as columns of coordinates. Bit (i - from) of the hits mask is set when entity i has collided.
+     * @param target Reference to the FireThrower object, being either Player or Enemy Boss
+     * @param xs Horizontal positions of the batch
+     * @param ys Vertical positions of the batch
+     * @param radii Collision radius values of the batch
+     * @param from Index of the first entity in the batch to check
+     * @param to Index after the last entity in the batch to check
+     * @param hits Bitmask to write the results to, at least (to - from + 63) / 64 words long
+     */
+    public static void collideBatch(FireThrower target, double[] xs, double[] ys, double[] radii, int from, int to,
+                                    long[] hits) {
+        KERNEL.collide(target.getX(), target.getY(), target.getRADIUS(), xs, ys, radii, from, to, hits);
+    }
+
+    /**
+     * Method that creates the vectorised collision kernel if it was built and the JDK supports it, falling back
+     * to the scalar kernel otherwise. The scalar kernel can be forced with -Dcollision.kernel=scalar.
+     * @return CollisionKernel Returns the kernel to test collisions with
+     */
+    private static CollisionKernel createKernel() {
+        if (!"scalar".equals(System.getProperty("collision.kernel"))) {
+            try {
+                return (CollisionKernel) Class.forName("VectorCollisionKernel").getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                // Not built with the vector-api profile, or run without --add-modules jdk.incubator.vector
+            }
+        }
+        return new ScalarCollisionKernel();
+    }
+}
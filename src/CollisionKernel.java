@@ -0,0 +1,35 @@
+/**
+ * Interface for the circle overlap tests behind all collision detection, so a vectorised implementation can be
+ * swapped in where the JDK supports it.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public interface CollisionKernel {
+    /***
+     * Method that determines if two points are within the given distance of each other
+     * @param x1 Horizontal position of the first point
+     * @param y1 Vertical position of the first point
+     * @param x2 Horizontal position of the second point
+     * @param y2 Vertical position of the second point
+     * @param reach Largest distance at which the points still overlap
+     * @return boolean Returns if the points are within reach of each other
+     */
+    public boolean overlaps(double x1, double y1, double x2, double y2, double reach);
+
+    /***
+     * Method that tests a circle against a batch of circles stored as columns of coordinates. Bit (i - from) of
+     * the hits mask is set when circle i overlaps the given circle, and cleared otherwise.
+     * @param x Horizontal position of the circle to test against
+     * @param y Vertical position of the circle to test against
+     * @param radius Radius of the circle to test against
+     * @param xs Horizontal positions of the batch
+     * @param ys Vertical positions of the batch
+     * @param radii Radii of the batch
+     * @param from Index of the first circle in the batch to test
+     * @param to Index after the last circle in the batch to test
+     * @param hits Bitmask to write the results to, at least (to - from + 63) / 64 words long
+     */
+    public void collide(double x, double y, double radius, double[] xs, double[] ys, double[] radii, int from,
+                        int to, long[] hits);
+}
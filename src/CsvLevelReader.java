@@ -0,0 +1,121 @@
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class that reads the game objects of a CSV level file one line at a time.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class CsvLevelReader implements LevelReader {
+    // Longest a line of the level file is expected to be, so the last line can be read from the end of the file
+    private static final int TAIL_SIZE = 256;
+    private final BufferedReader READER;
+    private final int MAX_X;
+    private String type;
+    private int x, y;
+
+    /**
+     * Constructor method for CSV level reader class to open the level file
+     * @param csvFile Path to the CSV level file
+     * @throws IOException If the level file cannot be opened
+     */
+    public CsvLevelReader(String csvFile) throws IOException {
+        this.READER = new BufferedReader(new FileReader(csvFile));
+        this.MAX_X = readLastX(csvFile);
+    }
+
+    /***
+     * Method that reads the horizontal position of the last game object in the level file, which is the rightmost
+     * as game objects after the player and platform are listed from left to right. Only the end of the file is
+     * read, so this is as fast for a level of millions of game objects as for a small one.
+     * @param csvFile Path to the CSV level file
+     * @return int Returns the horizontal position of the last game object, or zero if the file is empty
+     * @throws IOException If the level file cannot be read
+     */
+    private static int readLastX(String csvFile) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(csvFile, "r")) {
+            int length = (int) Math.min(file.length(), TAIL_SIZE);
+            byte[] tail = new byte[length];
+            file.seek(file.length() - length);
+            file.readFully(tail);
+            String text = new String(tail, StandardCharsets.US_ASCII).trim();
+            if (text.isEmpty()) {
+                return 0;
+            }
+            String[] splitText = text.substring(text.lastIndexOf('\n') + 1).split(",");
+            return Integer.parseInt(splitText[1].trim());
+        }
+    }
+
+    /***
+     * Method that reads the next line of the level file. Each line holds the type, horizontal position and
+     * vertical position of one game object.
+     * @return boolean Returns if a game object was read, or false once the end of the file has been reached
+     */
+    public boolean next() {
+        try {
+            String textRead = READER.readLine();
+            if (textRead == null) {
+                return false;
+            }
+            String[] splitText = textRead.split(",");
+            type = splitText[0];
+            x = Integer.parseInt(splitText[1]);
+            y = Integer.parseInt(splitText[2]);
+            return true;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        return false;
+    }
+
+    /***
+     * Method that gets and returns the type of the game object last read (e.g. "COIN")
+     * @return String Returns the type of the game object
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /***
+     * Method that gets and returns the horizontal position of the game object last read
+     * @return int Returns the horizontal position of the game object
+     */
+    public int getX() {
+        return this.x;
+    }
+
+    /***
+     * Method that gets and returns the vertical position of the game object last read
+     * @return int Returns the vertical position of the game object
+     */
+    public int getY() {
+        return this.y;
+    }
+
+    /***
+     * Method that gets and returns the rightmost horizontal position of any game object in the level file, taken
+     * from its last line
+     * @return int Returns the largest horizontal position
+     */
+    public int getMaxX() {
+        return this.MAX_X;
+    }
+
+    /***
+     * Method that closes the level file
+     */
+    public void close() {
+        try {
+            READER.close();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class for the Java Flight Recorder event of an entity taking damage from an enemy or a fireball. Nothing is
+ * recorded unless a flight recording is running.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+@Name("shadowmario.Damage")
+@Label("Damage")
+@Category("Shadow Mario")
+@Description("The player or enemy boss losing health to an enemy or a fireball")
+public class DamageEvent extends Event {
+    @Label("Source")
+    @Description("What caused the damage, either ENEMY or FIREBALL")
+    String source;
+
+    @Label("Target")
+    @Description("Who took the damage, either PLAYER or ENEMY_BOSS")
+    String target;
+
+    @Label("Damage")
+    double damage;
+
+    @Label("Health")
+    @Description("Health of the target after the damage")
+    double health;
+}
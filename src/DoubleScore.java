@@ -1,6 +1,3 @@
-import bagel.Image;
-import java.util.Properties;
-
 /**
  * Class for the double score power-up.
  *
@@ -10,16 +7,12 @@ import java.util.Properties;
 public class DoubleScore extends PowerUp {
     /**
      * Constructor method for double score power-up class to initialise object when instantiated
-     * @param x Horizontal position of entity in game environment
-     * @param y Vertical position of entity in game environment
-     * @param props Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public DoubleScore(double x, double y, Properties props) {
+    public DoubleScore(GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(props.getProperty("gameObjects.doubleScore.radius")),
-                Integer.parseInt(props.getProperty("gameObjects.doubleScore.speed")),
-                new Image(props.getProperty("gameObjects.doubleScore.image")),
-                Integer.parseInt(props.getProperty("gameObjects.doubleScore.maxFrames")));
+        super(CONFIG.getDoubleScore().getRadius(), CONFIG.getDoubleScore().getSpeed(),
+                CONFIG.getDoubleScore().getImage(), CONFIG.getDoubleScore().getMaxFrames());
     }
 
     /***
@@ -0,0 +1,211 @@
+import bagel.util.Colour;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that collects the draw calls of a frame and submits them together once the frame is complete. Each draw
+ * is put on the current layer, and the layers are drawn from lowest to highest. Within a layer images are sorted
+ * by image file, so all draws of one texture are submitted as one batch and each texture is bound once per layer,
+ * whatever order the game objects were drawn in. Text is drawn on its own top layer in the order it was queued.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class DrawQueue implements Renderer {
+    // Layers from the back of the frame to the front
+    public static final int PLATFORM_LAYER = 0, ENTITY_LAYER = 1, PLAYER_LAYER = 2, BOSS_LAYER = 3,
+            FIREBALL_LAYER = 4;
+    private static final int TEXT_LAYER = 5;
+    // Each sort key holds the layer above the texture above the order the draw was queued in
+    private static final int TEXTURE_SHIFT = 32, LAYER_SHIFT = 48;
+    private static final int TEXT_TEXTURE = 0xFFFF;
+    private final Renderer TARGET;
+    private final Map<String, Integer> TEXTURE_IDS = new HashMap<String, Integer>();
+    private final List<String> TEXTURES = new ArrayList<String>();
+    private int layer = ENTITY_LAYER;
+    private int count = 0;
+    private long[] keys = new long[256];
+    private double[] xs = new double[256], ys = new double[256];
+    private int[] fontSizes = new int[256];
+    private String[] texts = new String[256];
+    private Colour[] colours = new Colour[256];
+    private double[] batchXs = new double[256], batchYs = new double[256];
+    private int batchCount = 0, textureBinds = 0;
+
+    /**
+     * Constructor method for draw queue class to initialise object when instantiated
+     * @param TARGET Renderer the queued draws are submitted to
+     */
+    public DrawQueue(Renderer TARGET) {
+        this.TARGET = TARGET;
+    }
+
+    /***
+     * Method that sets the layer images queued from now on are drawn on
+     * @param layer Layer to draw on, from PLATFORM_LAYER at the back to FIREBALL_LAYER at the front
+     */
+    public void setLayer(int layer) {
+        this.layer = layer;
+    }
+
+    /***
+     * Method that queues an image centred at the given position, on the current layer
+     * @param imageFile Path to the image file
+     * @param x Horizontal position of the centre of the image
+     * @param y Vertical position of the centre of the image
+     */
+    public void drawImage(String imageFile, double x, double y) {
+        Integer texture = TEXTURE_IDS.get(imageFile);
+        if (texture == null) {
+            texture = TEXTURES.size();
+            TEXTURE_IDS.put(imageFile, texture);
+            TEXTURES.add(imageFile);
+        }
+        queue(layer, texture, x, y);
+    }
+
+    /***
+     * Method that queues one image at each of a run of positions, on the current layer
+     * @param imageFile Path to the image file
+     * @param xs Horizontal positions of the centres of the images
+     * @param ys Vertical positions of the centres of the images
+     * @param from Index of the first position
+     * @param to Index after the last position
+     */
+    public void drawImages(String imageFile, double[] xs, double[] ys, int from, int to) {
+        for (int i = from; i < to; i++) {
+            drawImage(imageFile, xs[i], ys[i]);
+        }
+    }
+
+    /***
+     * Method that queues a line of text on the top layer
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y) {
+        drawString(fontSize, text, x, y, null);
+    }
+
+    /***
+     * Method that queues a line of coloured text on the top layer
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     * @param colour Colour of the text, or null for the default colour
+     */
+    public void drawString(int fontSize, String text, double x, double y, Colour colour) {
+        int index = queue(TEXT_LAYER, TEXT_TEXTURE, x, y);
+        fontSizes[index] = fontSize;
+        texts[index] = text;
+        colours[index] = colour;
+    }
+
+    /***
+     * Method that adds a draw to the queue, growing the queue if it is full
+     * @param drawLayer Layer of the draw
+     * @param texture Texture of the draw, or TEXT_TEXTURE for text
+     * @param x Horizontal position of the draw
+     * @param y Vertical position of the draw
+     * @return int Returns the index the draw was queued at
+     */
+    private int queue(int drawLayer, int texture, double x, double y) {
+        if (count == keys.length) {
+            int size = 2 * count;
+            keys = Arrays.copyOf(keys, size);
+            xs = Arrays.copyOf(xs, size);
+            ys = Arrays.copyOf(ys, size);
+            fontSizes = Arrays.copyOf(fontSizes, size);
+            texts = Arrays.copyOf(texts, size);
+            colours = Arrays.copyOf(colours, size);
+        }
+        keys[count] = ((long) drawLayer << LAYER_SHIFT) | ((long) texture << TEXTURE_SHIFT) | count;
+        xs[count] = x;
+        ys[count] = y;
+        return count++;
+    }
+
+    /***
+     * Method that sorts the queued draws by layer and then by texture, submits them to the target renderer and
+     * empties the queue. Runs of images with the same layer and texture are submitted as one batch.
+     */
+    public void flush() {
+        Arrays.sort(keys, 0, count);
+        textureBinds = 0;
+        int i = 0;
+        while (i < count) {
+            long group = keys[i] >>> TEXTURE_SHIFT;
+            int texture = (int) group & 0xFFFF;
+            if (texture == TEXT_TEXTURE) {
+                int index = (int) keys[i];
+                if (colours[index] == null) {
+                    TARGET.drawString(fontSizes[index], texts[index], xs[index], ys[index]);
+                } else {
+                    TARGET.drawString(fontSizes[index], texts[index], xs[index], ys[index], colours[index]);
+                }
+                texts[index] = null;
+                colours[index] = null;
+                i++;
+                continue;
+            }
+
+            // Gather the positions of every draw in the run, which are in the order they were queued
+            batchCount = 0;
+            while (i < count && keys[i] >>> TEXTURE_SHIFT == group) {
+                addToBatch((int) keys[i]);
+                i++;
+            }
+            TARGET.drawImages(TEXTURES.get(texture), batchXs, batchYs, 0, batchCount);
+            textureBinds++;
+        }
+        count = 0;
+    }
+
+    /***
+     * Method that adds the position of a queued draw to the batch being gathered, growing the batch if it is full
+     * @param index Index the draw was queued at
+     */
+    private void addToBatch(int index) {
+        if (batchCount == batchXs.length) {
+            batchXs = Arrays.copyOf(batchXs, 2 * batchCount);
+            batchYs = Arrays.copyOf(batchYs, 2 * batchCount);
+        }
+        batchXs[batchCount] = xs[index];
+        batchYs[batchCount] = ys[index];
+        batchCount++;
+    }
+
+    /***
+     * Method that gets and returns the width a line of text takes up when drawn, measured by the target renderer
+     * @param fontSize Size of the font to measure with
+     * @param text Text to measure
+     * @return double Returns the width of the text
+     */
+    public double getStringWidth(int fontSize, String text) {
+        return TARGET.getStringWidth(fontSize, text);
+    }
+
+    /***
+     * Method that gets and returns the width of an image, measured by the target renderer
+     * @param imageFile Path to the image file
+     * @return double Returns the width of the image
+     */
+    public double getImageWidth(String imageFile) {
+        return TARGET.getImageWidth(imageFile);
+    }
+
+    /***
+     * Method that gets and returns the number of batches of images submitted by the last flush, each of which
+     * binds its texture once
+     * @return int Returns the number of batches submitted
+     */
+    public int getTextureBinds() {
+        return this.textureBinds;
+    }
+}
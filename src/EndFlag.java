@@ -1,7 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import java.util.Properties;
-
 /**
  * Class for the end flag entity.
  * Adapted from SWEN20003 Project 1 Solution by Dimuthu Kariyawasan & Tharun Dharmawickrema.
@@ -16,30 +12,36 @@ public class EndFlag extends Entity {
      * Constructor method for end flag to initialise object when instantiated
      * @param x Horizontal position of entity in game environment
      * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public EndFlag(double x, double y, Properties PROPS) {
+    public EndFlag(double x, double y, GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.endFlag.radius")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.endFlag.speed")),
-                new Image(PROPS.getProperty("gameObjects.endFlag.image")));
+        super(x, y, CONFIG.getEndFlag().getRadius(), CONFIG.getEndFlag().getSpeed(),
+                CONFIG.getEndFlag().getImage());
     }
 
     /***
-     * Method that updates the end flag movement and draws it. Also checks for collisions with the player.
-     * @param input Input provided by the user
+     * Method that checks the end flag for collisions with the player.
      * @param target Reference to the Player object
      */
-    public void updateWithTarget(Input input, Player target) {
-        // Moves entity in accordance with player movement and draws entity
-        updateEntity(input, target);
-
+    public void updateWithTarget(Player target) {
         // Tests if a collision with the player and the End Flag has occurred using the CollisionDetector class.
         if (CollisionDetector.isCollided(target, getX(), getY(), getRADIUS()) && !isCollided) {
             isCollided = true;
         }
     }
 
+    /***
+     * Method that returns the End Flag to its starting state at the given position, not yet reached
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        isCollided = false;
+    }
+
     /***
      * Method that gets and returns whether the player has collided with the end flag entity
      * @return boolean Returns the collision status of the end flag to indicate if the player has collided with it
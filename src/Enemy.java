@@ -1,7 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import java.util.Properties;
-
 /**
  * Class for the enemy.
  * Adapted from SWEN20003 Project 1 Solution by Dimuthu Kariyawasan & Tharun Dharmawickrema.
@@ -17,32 +13,44 @@ public class Enemy extends RandomlyMovingEntity {
      * Constructor method for enemy class to initialise object when instantiated
      * @param x Horizontal position of entity in game environment
      * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public Enemy(double x, double y, Properties PROPS) {
+    public Enemy(double x, double y, GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.enemy.radius")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.enemy.speed")),
-                new Image(PROPS.getProperty("gameObjects.enemy.image")),
-                Double.parseDouble(PROPS.getProperty("gameObjects.enemy.randomSpeed")),
-                Double.parseDouble(PROPS.getProperty("gameObjects.enemy.maxRandomDisplacementX")));
+        super(x, y, CONFIG.getEnemy().getRadius(), CONFIG.getEnemy().getSpeed(),
+                CONFIG.getEnemy().getImage(), CONFIG.getEnemy().getRandomSpeed(),
+                CONFIG.getEnemy().getMaxRandomDisplacementX());
 
         // Initialise damage size constant to inflict on player
-        this.DAMAGE_SIZE = Double.parseDouble(PROPS.getProperty("gameObjects.enemy.damageSize"));
+        this.DAMAGE_SIZE = CONFIG.getEnemy().getDamageSize();
     }
 
     /***
-     * Method that updates the enemy movement and draws it. Also checks for collisions with the player.
-     * @param input Input provided by the user
-     * @param target Reference to the Player object
+     * Method that updates the enemy movement.
      */
-    public void updateWithTarget(Input input, Player target) {
-        // Moves entity in accordance with player movement and draws entity
-        updateEntity(input, target);
-
+    @Override
+    public void update() {
         // Moves entity in random direction
         updateRandomMovement();
+    }
+
+    /***
+     * Method that returns the enemy to its starting state at the given position, having hit nothing
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        killedTarget = false;
+        hitPlayer = false;
+    }
 
+    /***
+     * Method that checks for a collision with the player and damages the player if one has occurred.
+     * @param target Reference to the Player object
+     */
+    public void collideWithTarget(Player target) {
         // Tests if a collision with the player and the enemy has occurred using the CollisionDetector class.
         // Condition also requires the player to not be invincible and to have not collided with this entity prior.
         if (target != null && CollisionDetector.isCollided(target, getX(), getY(), getRADIUS()) && !hitPlayer &&
@@ -63,6 +71,14 @@ public class Enemy extends RandomlyMovingEntity {
             // If player is not invincible, reduce the player's health by the damage size of the entity
             double newHealth = target.getHealth() - DAMAGE_SIZE;
             target.setHealth(newHealth);
+            DamageEvent event = new DamageEvent();
+            if (event.shouldCommit()) {
+                event.source = "ENEMY";
+                event.target = "PLAYER";
+                event.damage = DAMAGE_SIZE;
+                event.health = newHealth;
+                event.commit();
+            }
 
             // If the player's health reduces past zero, indicate the player has died
             if (newHealth <= 0 && !killedTarget) {
@@ -1,8 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import java.util.Random;
-import java.util.Properties;
-
 /**
  * Class for the enemy boss.
  *
@@ -12,32 +7,28 @@ import java.util.Properties;
 public class EnemyBoss extends FireThrower {
     private int fireballTimer = 0;
     private final int FIREBALL_COOLDOWN_LIMIT = 100;
+    private final GameRandom RANDOM;
 
     /**
      * Constructor method for enemy boss class to initialise object when instantiated
      * @param x Horizontal position of entity in game environment
      * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
+     * @param RANDOM Random number generator of the level, used to decide when to throw fireballs
      */
-    public EnemyBoss(int x, int y, Properties PROPS) {
+    public EnemyBoss(int x, int y, GameConfig CONFIG, GameRandom RANDOM) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.enemyBoss.radius")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.enemyBoss.speed")),
-                new Image(PROPS.getProperty("gameObjects.enemyBoss.image")),
-                Double.parseDouble(PROPS.getProperty("gameObjects.enemyBoss.health")), PROPS);
+        super(x, y, CONFIG.getEnemyBoss().getRadius(), CONFIG.getEnemyBoss().getSpeed(),
+                CONFIG.getEnemyBoss().getImage(), CONFIG.getEnemyBoss().getHealth(), CONFIG);
+        this.RANDOM = RANDOM;
     }
 
     /***
-     * Method that updates the enemy boss movement and draws it. Also updates thrown fireballs and randomly
+     * Method that updates the enemy boss movement. Also updates thrown fireballs and randomly
      * throws fireballs at the player
-     * @param input Input provided by the user
      * @param target Reference to the Player object
-     * @param PROPS Game properties to access information about game object
      */
-    public void updateWithTarget(Input input, Player target, Properties PROPS) {
-        // Moves entity in accordance with player movement and draws entity
-        updateEntity(input, target);
-
+    public void updateWithTarget(Player target) {
         // Moves the player vertically to animate death
         moveY();
 
@@ -45,17 +36,29 @@ public class EnemyBoss extends FireThrower {
         incrementTimer();
 
         // Update the movement of the fireball
-        updateFireballs(input, target);
+        updateFireballs(target);
 
         // Once the cool-down period has lapsed, the Enemy Boss randomly throws a fireball and the timer restarts
         if (fireballTimer >= FIREBALL_COOLDOWN_LIMIT) {
             if (getRandomBoolean()) {
-                throwFireball(target, getX(), getY(), PROPS);
+                throwFireball(target, getX(), getY());
             }
             fireballTimer = 0;
         }
     }
 
+    /***
+     * Method that returns the Enemy Boss to its starting state at the given position, with the fireball cool-down
+     * restarted
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        fireballTimer = 0;
+    }
+
     /***
      * Method that increments the timer cool-down for fireball throwing
      */
@@ -68,8 +71,7 @@ public class EnemyBoss extends FireThrower {
      * @return boolean Returns a random boolean value, being either true or false
      */
     private boolean getRandomBoolean() {
-        // Uses Random to find a random Boolean value
-        Random random = new Random();
-        return random.nextBoolean();
+        // Uses the level's random number generator, so the boss fight can be reproduced from its seed
+        return RANDOM.nextBoolean();
     }
 }
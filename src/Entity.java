@@ -1,5 +1,3 @@
-import bagel.*;
-
 /**
  * Abstract Super-Class for game objects or entities.
  *
@@ -9,8 +7,8 @@ import bagel.*;
 public abstract class Entity {
     private final double RADIUS;
     private final int SPEED_X;
-    private double x, y;
-    private Image image;
+    private double x, y, previousX, previousY;
+    private String image;
 
     /**
      * Constructor method for entity class to initialise object when instantiated
@@ -18,29 +16,18 @@ public abstract class Entity {
      * @param y Vertical position of entity in game environment
      * @param RADIUS Collision radius value of given entity
      * @param SPEED_X Horizontal movement speed of entity with player movement
-     * @param image Image object of entity to be drawn
+     * @param image Path to the image file of entity to be drawn
      */
-    public Entity(double x, double y, double RADIUS, int SPEED_X, Image image) {
+    public Entity(double x, double y, double RADIUS, int SPEED_X, String image) {
         this.x = x;
         this.y = y;
+        this.previousX = x;
+        this.previousY = y;
         this.RADIUS = RADIUS;
         this.SPEED_X = SPEED_X;
         this.image = image;
     }
 
-    /***
-     * Method that updates an entity's movement in respect to the player and draws it.
-     * @param input Input provided by the user
-     */
-    public void updateEntity(Input input, Player target) {
-        // Move the entity horizontally with the player's movement if the player is not dead.
-        // Also draws the entity into the game environment.
-        if (!target.isDead()) {
-            moveEntityWithPlayer(input, target);
-        }
-        drawEntity();
-    }
-
     /***
      * Method that gets and returns the entity's x-value (horizontal position)
      * @return double Returns the entity's x-value
@@ -58,10 +45,10 @@ public abstract class Entity {
     }
 
     /***
-     * Method that gets and returns the entity's image object
-     * @return Image Returns the entity's image object
+     * Method that gets and returns the entity's image file
+     * @return String Returns the path to the entity's image file
      */
-    public Image getImage() {
+    public String getImage() {
         return this.image;
     }
 
@@ -98,33 +85,41 @@ public abstract class Entity {
     }
 
     /***
-     * Method that assigns the entity's image object with the given argument
-     * @param image Given image object to assign to the entity
+     * Method that assigns the entity's image file with the given argument
+     * @param image Given path to the image file to assign to the entity
      */
-    public void setImage(Image image) {
+    public void setImage(String image) {
         this.image = image;
     }
 
     /***
-     * Method that updates the entity's horizontal position (x-value) based on the movement of the player via
-     * the user input
-     * @param input Input provided by the user
-     * @param target Reference to the Player object
+     * Method that returns the entity to its starting state at the given position, so it can be reused when a level
+     * is started again instead of creating a new entity
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    public void respawn(double x, double y) {
+        this.x = x;
+        this.y = y;
+        savePosition();
+    }
+
+    /***
+     * Method that stores the entity's current position as its position at the previous simulation tick. Called at
+     * the start of each tick, so the entity can be drawn part way between its last two positions.
      */
-    public void moveEntityWithPlayer(Input input, Player target) {
-        // Determines which direction to move the entity based on the user's input, provided
-        // the player is not at the border
-        if (input.isDown(Keys.RIGHT) && !target.playerAtBorderRight()){
-            this.x -= SPEED_X;
-        } else if (input.isDown(Keys.LEFT) && !target.playerAtBorderLeft()){
-            this.x += SPEED_X;
-        }
+    public void savePosition() {
+        this.previousX = x;
+        this.previousY = y;
     }
 
     /***
-     * Method that draws the entity's image at their current position in the game environment
+     * Method that draws the entity's image at their current position in the game environment, as seen by the
+     * camera, unless it is out of view. The position is interpolated between the last two simulation ticks.
+     * @param renderer Renderer to draw the entity with
+     * @param camera Camera viewing the game world
      */
-    public void drawEntity() {
-        this.image.draw(x, y);
+    public void drawEntity(Renderer renderer, Camera camera) {
+        camera.drawImage(renderer, image, camera.interpolate(previousX, x), camera.interpolate(previousY, y));
     }
 }
@@ -0,0 +1,197 @@
+import java.util.Properties;
+
+/**
+ * Class that holds the parsed game properties of a single type of game object.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class EntityConfig {
+    private static final String PREFIX = "gameObjects.";
+    private final String IMAGE, IMAGE_LEFT;
+    private final double RADIUS, HEALTH, DAMAGE_SIZE, RANDOM_SPEED, MAX_RANDOM_DISPLACEMENT_X, HALF_LENGTH,
+            HALF_HEIGHT;
+    private final int SPEED, VALUE, MAX_FRAMES, ACTIVATION_RADIUS, MAX_ACTIVE;
+
+    /**
+     * Constructor method for entity config class to parse the properties of one game object type
+     * @param PROPS Game properties to access information about game object
+     * @param name Name of the game object in the properties file (e.g. "coin")
+     * @param REQUIRED Names of the properties that must be present for this game object
+     * @throws IllegalArgumentException If a required property is missing or a value is not a valid number
+     */
+    public EntityConfig(Properties PROPS, String name, String... REQUIRED) {
+        String prefix = PREFIX + name + ".";
+        for (String key : REQUIRED) {
+            if (PROPS.getProperty(prefix + key) == null) {
+                throw new IllegalArgumentException("Missing game property " + prefix + key);
+            }
+        }
+
+        // The player is the only game object with an image per direction, with the right image used by default
+        String image = PROPS.getProperty(prefix + "image");
+        this.IMAGE = image != null ? image : PROPS.getProperty(prefix + "imageRight");
+        this.IMAGE_LEFT = PROPS.getProperty(prefix + "imageLeft");
+
+        this.RADIUS = readDouble(PROPS, prefix + "radius");
+        this.HEALTH = readDouble(PROPS, prefix + "health");
+        this.DAMAGE_SIZE = readDouble(PROPS, prefix + "damageSize");
+        this.RANDOM_SPEED = readDouble(PROPS, prefix + "randomSpeed");
+        this.MAX_RANDOM_DISPLACEMENT_X = readDouble(PROPS, prefix + "maxRandomDisplacementX");
+        this.HALF_LENGTH = readDouble(PROPS, prefix + "halfLength");
+        this.HALF_HEIGHT = readDouble(PROPS, prefix + "halfHeight");
+        this.SPEED = readInt(PROPS, prefix + "speed");
+        this.VALUE = readInt(PROPS, prefix + "value");
+        this.MAX_FRAMES = readInt(PROPS, prefix + "maxFrames");
+        this.ACTIVATION_RADIUS = readInt(PROPS, prefix + "activationRadius");
+        this.MAX_ACTIVE = readInt(PROPS, prefix + "maxActive");
+    }
+
+    /***
+     * Method that reads an optional decimal property, defaulting to zero when it is not present
+     * @param PROPS Game properties to read from
+     * @param key Full name of the property
+     * @return double Returns the parsed value of the property
+     */
+    static double readDouble(Properties PROPS, String key) {
+        String value = PROPS.getProperty(key);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Game property " + key + " is not a number: " + value, ex);
+        }
+    }
+
+    /***
+     * Method that reads an optional integer property, defaulting to zero when it is not present
+     * @param PROPS Game properties to read from
+     * @param key Full name of the property
+     * @return int Returns the parsed value of the property
+     */
+    static int readInt(Properties PROPS, String key) {
+        String value = PROPS.getProperty(key);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Game property " + key + " is not an integer: " + value, ex);
+        }
+    }
+
+    /***
+     * Method that gets and returns the image file of the game object
+     * @return String Returns the path to the image file
+     */
+    public String getImage() {
+        return this.IMAGE;
+    }
+
+    /***
+     * Method that gets and returns the left-facing image file of the game object, if it has one
+     * @return String Returns the path to the left-facing image file, or null
+     */
+    public String getImageLeft() {
+        return this.IMAGE_LEFT;
+    }
+
+    /***
+     * Method that gets and returns the collision radius of the game object
+     * @return double Returns the collision radius
+     */
+    public double getRadius() {
+        return this.RADIUS;
+    }
+
+    /***
+     * Method that gets and returns the starting health of the game object
+     * @return double Returns the starting health
+     */
+    public double getHealth() {
+        return this.HEALTH;
+    }
+
+    /***
+     * Method that gets and returns the damage the game object inflicts
+     * @return double Returns the damage size
+     */
+    public double getDamageSize() {
+        return this.DAMAGE_SIZE;
+    }
+
+    /***
+     * Method that gets and returns the speed of the game object's random horizontal movement
+     * @return double Returns the random movement speed
+     */
+    public double getRandomSpeed() {
+        return this.RANDOM_SPEED;
+    }
+
+    /***
+     * Method that gets and returns the maximum displacement of the game object's random horizontal movement
+     * @return double Returns the maximum random displacement
+     */
+    public double getMaxRandomDisplacementX() {
+        return this.MAX_RANDOM_DISPLACEMENT_X;
+    }
+
+    /***
+     * Method that gets and returns half of the length of the game object
+     * @return double Returns the half length
+     */
+    public double getHalfLength() {
+        return this.HALF_LENGTH;
+    }
+
+    /***
+     * Method that gets and returns half of the height of the game object
+     * @return double Returns the half height
+     */
+    public double getHalfHeight() {
+        return this.HALF_HEIGHT;
+    }
+
+    /***
+     * Method that gets and returns the horizontal speed of the game object
+     * @return int Returns the horizontal speed
+     */
+    public int getSpeed() {
+        return this.SPEED;
+    }
+
+    /***
+     * Method that gets and returns the score value of the game object
+     * @return int Returns the score value
+     */
+    public int getValue() {
+        return this.VALUE;
+    }
+
+    /***
+     * Method that gets and returns the number of frames the game object's power-up lasts
+     * @return int Returns the maximum number of frames
+     */
+    public int getMaxFrames() {
+        return this.MAX_FRAMES;
+    }
+
+    /***
+     * Method that gets and returns the range within which the game object starts throwing fireballs
+     * @return int Returns the activation radius
+     */
+    public int getActivationRadius() {
+        return this.ACTIVATION_RADIUS;
+    }
+
+    /***
+     * Method that gets and returns the largest number of the game object that can be in play at once
+     * @return int Returns the maximum number in play
+     */
+    public int getMaxActive() {
+        return this.MAX_ACTIVE;
+    }
+}
@@ -1,8 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import java.util.ArrayList;
-import java.util.Properties;
-
 /**
  * Abstract Super-Class for entities that can throw fireballs and be killed.
  *
@@ -11,7 +6,8 @@ import java.util.Properties;
  */
 public abstract class FireThrower extends Entity implements VerticallyMovable {
     private double health;
-    private ArrayList<Fireball> fireballs;
+    private final double INITIAL_HEALTH;
+    private final FireballPool fireballs;
     private final int FALL_SPEED = 2, ACTIVATION_RADIUS;
     private int speedY = 0;
 
@@ -21,54 +17,69 @@ public abstract class FireThrower extends Entity implements VerticallyMovable {
      * @param y Vertical position of entity in game environment
      * @param RADIUS Collision radius value of given entity
      * @param SPEED_X Horizontal movement speed of entity with player movement
-     * @param image Image object of entity to be drawn
+     * @param image Path to the image file of entity to be drawn
      * @param health Starting health of entity
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public FireThrower(double x, double y, double RADIUS, int SPEED_X, Image image, double health, Properties PROPS) {
+    public FireThrower(double x, double y, double RADIUS, int SPEED_X, String image, double health,
+                       GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
         super(x, y, RADIUS, SPEED_X, image);
-        this.fireballs = new ArrayList<Fireball>();
+        this.fireballs = new FireballPool(this, CONFIG);
         this.health = health;
-        this.ACTIVATION_RADIUS = Integer.parseInt(PROPS.getProperty("gameObjects.enemyBoss.activationRadius"));
+        this.INITIAL_HEALTH = health;
+        this.ACTIVATION_RADIUS = CONFIG.getEnemyBoss().getActivationRadius();
     }
 
     /***
      * Method that updates the fireballs thrown by the entity
-     * @param input Input provided by the user
      * @param target Reference to opponent FireThrower object (Player/Enemy Boss) receiving fireballs
      */
-    public void updateFireballs(Input input, FireThrower target) {
-        for (Fireball f : fireballs) {
-            f.updateWithTarget(input, target);
-        }
+    public void updateFireballs(FireThrower target) {
+        fireballs.update(target);
     }
 
     /***
-     * Method that throws fireballs at opposing entity if within activation range. Creates new fireball
-     * object and adds it to a list of active fireballs
+     * Method that draws the fireballs thrown by the entity
+     * @param renderer Renderer to draw the fireballs with
+     * @param camera Camera viewing the game world
+     */
+    public void drawFireballs(Renderer renderer, Camera camera) {
+        fireballs.draw(renderer, camera);
+    }
+
+    /***
+     * Method that throws fireballs at opposing entity if within activation range. Launches a fireball from
+     * the entity's pool, unless all of them are already in play
      * @param target Reference to an opponent FireThrower object (Player/Enemy Boss) to throw fireballs at
      * @param x Horizontal position of this entity in game environment
      * @param y Vertical position of this entity in game environment
-     * @param PROPS Game properties to access information about game object
      */
-    public void throwFireball(FireThrower target, double x, double y, Properties PROPS) {
-        if (canThrowFireball(target, x, y)) {
-            Fireball fireball = new Fireball(x, y, PROPS, getTargetDirection(target, x));
-            fireballs.add(fireball);
+    public void throwFireball(FireThrower target, double x, double y) {
+        boolean right = getTargetDirection(target, x);
+        if (canThrowFireball(target, x, y) && fireballs.spawn(x, y, right)) {
+            FireballSpawnEvent event = new FireballSpawnEvent();
+            if (event.shouldCommit()) {
+                event.thrower = this instanceof Player ? "PLAYER" : "ENEMY_BOSS";
+                event.x = x;
+                event.y = y;
+                event.right = right;
+                event.liveFireballs = fireballs.getLiveCount();
+                event.commit();
+            }
         }
     }
 
     /***
      * Method that tests if entity is within activation range of their opponent to throw a fireball via
-     * calculating Euclidean distance
+     * comparing the squared Euclidean distance
      * @param target Reference to an opponent FireThrower object (Player/Enemy Boss) to throw fireballs at
      * @param x Horizontal position of this entity in game environment
      * @param y Vertical position of this entity in game environment
      * @return boolean Returns if entity is within fireball activation range of opposing entity
      */
     public boolean canThrowFireball(FireThrower target, double x, double y) {
-        return Math.sqrt(Math.pow(target.getX() - x, 2) + Math.pow(target.getY() - y, 2)) < ACTIVATION_RADIUS;
+        return CollisionDetector.isWithinRange(target, x, y, ACTIVATION_RADIUS);
     }
 
     /***
@@ -82,6 +93,14 @@ public abstract class FireThrower extends Entity implements VerticallyMovable {
         return (x <= target.getX());
     }
 
+    /***
+     * Method that gets and returns the number of fireballs thrown by this entity that are still in play
+     * @return int Returns the number of live fireballs
+     */
+    public int getFireballCount() {
+        return fireballs.getLiveCount();
+    }
+
     /***
      * Method that gets and returns the health of this entity
      * @return double Returns the current health of this entity
@@ -133,13 +152,43 @@ public abstract class FireThrower extends Entity implements VerticallyMovable {
     }
 
     /***
-     * Method that resets all fireball objects by iterating through the thrown fireballs and resetting them
-     * individually
+     * Method that stores the current position of the entity and its fireballs as their positions at the previous
+     * simulation tick
+     */
+    @Override
+    public void savePosition() {
+        super.savePosition();
+        fireballs.savePositions();
+    }
+
+    /***
+     * Method that returns the entity to its starting state at the given position, at full health, standing still
+     * and with no fireballs in play
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        health = INITIAL_HEALTH;
+        speedY = 0;
+        fireballs.clear();
+    }
+
+    /***
+     * Method that resets the fireballs by taking every thrown fireball out of play
      */
     public void resetFireballs() {
-        for(Fireball f: fireballs) {
-            f.reset();
-        }
+        fireballs.clear();
+    }
+
+    /***
+     * Method that sets the horizontal extent of the game world, beyond which thrown fireballs are despawned
+     * @param minX Leftmost horizontal position in the game world
+     * @param maxX Rightmost horizontal position in the game world
+     */
+    public void setWorldBounds(double minX, double maxX) {
+        fireballs.setBounds(minX, maxX);
     }
 
     /***
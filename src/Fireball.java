@@ -1,64 +1,58 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-import java.util.Properties;
-
 /**
- * Class for the fireball.
+ * Class for the fireball. Fireballs are created once by a FireballPool and launched again each time one is thrown.
  *
  * @author Lachlan Chue
  * @version 1.16
  */
 public class Fireball extends Entity implements HorizontallyMovable {
-    private boolean isCollided = false;
-    private final boolean DIRECTION;
-    private static boolean killedTarget;
+    private boolean direction;
     private final double DAMAGE_SIZE;
-    private final int GAME_SPEED;
+    private final FireThrower OWNER;
 
     /**
-     * Constructor method for fireball class to initialise object when instantiated
-     * @param x Horizontal position of entity in game environment
-     * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
-     * @param DIRECTION Boolean indicating the fireball's direction of travel across the window
+     * Constructor method for fireball class to initialise object when instantiated. The fireball is not in play
+     * until it is launched.
+     * @param OWNER Reference to the FireThrower object (Player/Enemy Boss) throwing this fireball
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public Fireball(double x, double y, Properties PROPS, boolean DIRECTION) {
+    public Fireball(FireThrower OWNER, GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.fireball.radius")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.fireball.speed")),
-                new Image(PROPS.getProperty("gameObjects.fireball.image")));
+        super(0, 0, CONFIG.getFireball().getRadius(), CONFIG.getFireball().getSpeed(),
+                CONFIG.getFireball().getImage());
 
-        // Initialise constants to indicate damage size, speed of movement in respect to the player and the
-        // fireball's direction of travel
-        this.DAMAGE_SIZE = Double.parseDouble(PROPS.getProperty("gameObjects.fireball.damageSize"));
-        this.GAME_SPEED = Integer.parseInt(PROPS.getProperty("gameObjects.enemyBoss.speed"));
-        this.DIRECTION = DIRECTION;
+        // Initialise constants to indicate damage size and who threw the fireball
+        this.DAMAGE_SIZE = CONFIG.getFireball().getDamageSize();
+        this.OWNER = OWNER;
     }
 
     /***
-     * Method that updates the fireball movement and draws it. Also checks for collisions with the player.
-     * @param input Input provided by the user
+     * Method that puts the fireball back in play at the given position
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     * @param direction Boolean indicating the fireball's direction of travel across the window
+     */
+    public void launch(double x, double y, boolean direction) {
+        respawn(x, y);
+        this.direction = direction;
+    }
+
+    /***
+     * Method that updates the fireball movement. Also checks for collisions with the target.
      * @param target Reference to an opponent FireThrower object (Player/Enemy Boss) to throw fireballs at
+     * @return boolean Returns if the fireball has hit the target and is spent
      */
-    public void updateWithTarget(Input input, FireThrower target) {
-        // Move fireball horizontally at defined speed in game properties but also in respect to the movement of
-        // the player via user input
+    public boolean updateWithTarget(FireThrower target) {
+        // Move fireball horizontally at defined speed in game properties
         moveX();
-        moveEntityWithPlayer(input, target);
-
-        // Provided the fireball has not collided with the opponent, draw the fireball
-        if (!isCollided) {
-            drawEntity();
-        }
 
         // Tests if a collision with an entity and a fireball has occurred using the CollisionDetector class,
-        // provided the fireball has not collided with this entity prior and the entity is not dead
-        if (CollisionDetector.isCollided(target, getX(), getY(), getRADIUS()) && !isCollided && !killedTarget) {
-            // Indicate that the fireball has been collided with and damage the player
-            isCollided = true;
+        // provided neither the entity nor the one who threw the fireball is already dead
+        if (CollisionDetector.isCollided(target, getX(), getY(), getRADIUS()) && !target.isDead() &&
+                !OWNER.isDead()) {
             damageTarget(target);
+            return true;
         }
+        return false;
     }
 
     /***
@@ -67,7 +61,7 @@ public class Fireball extends Entity implements HorizontallyMovable {
     public void moveX() {
         // Determines which direction to move the fireball by testing which direction the fireball was initially
         // fired in
-        if (DIRECTION) {
+        if (direction) {
             setX(getX() + getSPEED_X());
         } else {
             setX(getX() - getSPEED_X());
@@ -93,7 +87,7 @@ public class Fireball extends Entity implements HorizontallyMovable {
         target.setHealth(newHealth);
 
         // If the entity's health reduces past zero, indicate the entity has died
-        if (newHealth <= 0 && !killedTarget) {
+        if (newHealth <= 0) {
             // Due to the fireball's damage, if the damage exceeds the health of the entity, set the health to
             // simply zero to avoid negative health values
             if (newHealth < 0) {
@@ -101,46 +95,15 @@ public class Fireball extends Entity implements HorizontallyMovable {
                 target.setHealth(newHealth);
             }
             target.dead();
-            killedTarget = true;
-        }
-    }
-
-    /***
-     * Method that resets the fireball by indicating the entity has not been killed
-     */
-    public void reset() {
-        killedTarget = false;
-    }
-
-    /***
-     * Method that gets and returns whether the fireballs have successfully killed an entity
-     * @return boolean Returns status of whether the fireballs have successfully killed an entity
-     */
-    public boolean getKilledTarget() {
-        return killedTarget;
-    }
-
-    /***
-     * Method that to moves fireball with the player's movement via user input. Entity is moved according to game
-     * environment movement rather than speed of fireball.
-     * @param input Input provided by the user
-     * @param target Reference to a FireThrower object (Player/Enemy Boss)
-     */
-    public void moveEntityWithPlayer(Input input, FireThrower target) {
-        // If the entity is a player, it must determine if the player has reached the border of the game world
-        // If it is not a player, it will be false and movement will be valid
-        boolean playerAtBorderLeft = false, playerAtBorderRight = false;
-        if (target instanceof Player) {
-            playerAtBorderLeft = ((Player) target).playerAtBorderLeft();
-            playerAtBorderRight = ((Player) target).playerAtBorderRight();
         }
 
-        // Determines which direction to move the entity based on the key provided by the user's input and if the
-        // player will not exceed the border limits
-        if (input.isDown(Keys.RIGHT) && !playerAtBorderRight){
-            setX(getX() - GAME_SPEED);
-        } else if (input.isDown(Keys.LEFT) && !playerAtBorderLeft){
-            setX(getX() + GAME_SPEED);
+        DamageEvent event = new DamageEvent();
+        if (event.shouldCommit()) {
+            event.source = "FIREBALL";
+            event.target = target instanceof Player ? "PLAYER" : "ENEMY_BOSS";
+            event.damage = DAMAGE_SIZE;
+            event.health = newHealth;
+            event.commit();
         }
     }
 }
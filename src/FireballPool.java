@@ -0,0 +1,112 @@
+/**
+ * Class that holds a fixed number of fireballs, each created the first time its slot is used and reused for every
+ * throw after that, so a level only holds as many fireballs as were ever live at once. Live fireballs are kept at
+ * the front of the pool, and a spent fireball is swapped with the last live one so despawning takes constant
+ * time.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class FireballPool {
+    private final FireThrower OWNER;
+    private final GameConfig CONFIG;
+    private final Fireball[] fireballs;
+    private int liveCount = 0;
+    private double minX = Double.NEGATIVE_INFINITY, maxX = Double.POSITIVE_INFINITY;
+
+    /**
+     * Constructor method for fireball pool class to initialise object when instantiated, with room for the
+     * maximum number of live fireballs but none created yet
+     * @param OWNER Reference to the FireThrower object (Player/Enemy Boss) throwing the fireballs
+     * @param CONFIG Parsed game properties to access information about game object
+     */
+    public FireballPool(FireThrower OWNER, GameConfig CONFIG) {
+        this.OWNER = OWNER;
+        this.CONFIG = CONFIG;
+        this.fireballs = new Fireball[CONFIG.getFireball().getMaxActive()];
+    }
+
+    /***
+     * Method that sets the horizontal extent of the game world, beyond which fireballs are despawned
+     * @param minX Leftmost horizontal position in the game world
+     * @param maxX Rightmost horizontal position in the game world
+     */
+    public void setBounds(double minX, double maxX) {
+        this.minX = minX;
+        this.maxX = maxX;
+    }
+
+    /***
+     * Method that launches a fireball from the pool, unless every fireball is already live
+     * @param x Horizontal position to launch the fireball from
+     * @param y Vertical position to launch the fireball from
+     * @param direction Boolean indicating the fireball's direction of travel, where true is to the right
+     * @return boolean Returns if a fireball was launched
+     */
+    public boolean spawn(double x, double y, boolean direction) {
+        if (liveCount == fireballs.length) {
+            return false;
+        }
+        // Created fireballs always fill the front of the pool, so the next slot is either spent or never used
+        if (fireballs[liveCount] == null) {
+            fireballs[liveCount] = new Fireball(OWNER, CONFIG);
+        }
+        fireballs[liveCount++].launch(x, y, direction);
+        return true;
+    }
+
+    /***
+     * Method that moves every live fireball, and despawns those that hit the target or leave the game world
+     * @param target Reference to opponent FireThrower object (Player/Enemy Boss) receiving fireballs
+     */
+    public void update(FireThrower target) {
+        int i = 0;
+        while (i < liveCount) {
+            Fireball fireball = fireballs[i];
+            if (fireball.updateWithTarget(target) || fireball.getX() < minX || fireball.getX() > maxX) {
+                // Swap the spent fireball with the last live one, then check the fireball moved into this slot
+                liveCount--;
+                fireballs[i] = fireballs[liveCount];
+                fireballs[liveCount] = fireball;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /***
+     * Method that stores the current position of every live fireball as its position at the previous simulation
+     * tick
+     */
+    public void savePositions() {
+        for (int i = 0; i < liveCount; i++) {
+            fireballs[i].savePosition();
+        }
+    }
+
+    /***
+     * Method that draws every live fireball
+     * @param renderer Renderer to draw the fireballs with
+     * @param camera Camera viewing the game world
+     */
+    public void draw(Renderer renderer, Camera camera) {
+        for (int i = 0; i < liveCount; i++) {
+            fireballs[i].drawEntity(renderer, camera);
+        }
+    }
+
+    /***
+     * Method that despawns every live fireball
+     */
+    public void clear() {
+        liveCount = 0;
+    }
+
+    /***
+     * Method that gets and returns the number of live fireballs
+     * @return int Returns the number of live fireballs
+     */
+    public int getLiveCount() {
+        return this.liveCount;
+    }
+}
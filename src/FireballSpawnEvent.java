@@ -0,0 +1,34 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class for the Java Flight Recorder event of a fireball being thrown. Nothing is recorded unless a flight
+ * recording is running.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+@Name("shadowmario.FireballSpawn")
+@Label("Fireball Spawn")
+@Category("Shadow Mario")
+@Description("A fireball thrown by the player or the enemy boss")
+public class FireballSpawnEvent extends Event {
+    @Label("Thrower")
+    String thrower;
+
+    @Label("X")
+    double x;
+
+    @Label("Y")
+    double y;
+
+    @Label("Thrown Right")
+    boolean right;
+
+    @Label("Live Fireballs")
+    @Description("Fireballs of the thrower in play, including this one")
+    int liveFireballs;
+}
@@ -1,7 +1,4 @@
-import bagel.Image;
-import bagel.Input;
 import java.lang.Math;
-import java.util.Properties;
 
 /**
  * Class for the flying platform.
@@ -17,33 +14,46 @@ public class FlyingPlatform extends RandomlyMovingEntity {
      * Constructor method for flying platform class to initialise object when instantiated
      * @param x Horizontal position of entity in game environment
      * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public FlyingPlatform(int x, int y, Properties PROPS) {
+    public FlyingPlatform(int x, int y, GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, 0, Integer.parseInt(PROPS.getProperty("gameObjects.flyingPlatform.speed")),
-                new Image(PROPS.getProperty("gameObjects.flyingPlatform.image")),
-                Double.parseDouble(PROPS.getProperty("gameObjects.flyingPlatform.randomSpeed")),
-                Double.parseDouble(PROPS.getProperty("gameObjects.flyingPlatform.maxRandomDisplacementX")));
+        super(x, y, 0, CONFIG.getFlyingPlatform().getSpeed(),
+                CONFIG.getFlyingPlatform().getImage(),
+                CONFIG.getFlyingPlatform().getRandomSpeed(), CONFIG.getFlyingPlatform().getMaxRandomDisplacementX());
 
         // Initialise constants stored in game properties to determine if player successfully lands on platform
-        this.HALF_LENGTH = Double.parseDouble(PROPS.getProperty("gameObjects.flyingPlatform.halfLength"));
-        this.HALF_HEIGHT = Double.parseDouble(PROPS.getProperty("gameObjects.flyingPlatform.halfHeight"));
+        this.HALF_LENGTH = CONFIG.getFlyingPlatform().getHalfLength();
+        this.HALF_HEIGHT = CONFIG.getFlyingPlatform().getHalfHeight();
     }
 
     /***
-     * Method that updates the flying platform movement in relation to the player, but also randomly, and draws it.
-     * Also checks for collisions with the player.
-     * @param input Input provided by the user
-     * @param target Reference to the Player object
+     * Method that updates the flying platform movement, which is random.
      */
-    public void updateWithTarget(Input input, Player target) {
-        // Moves entity in accordance with player movement and draws entity
-        updateEntity(input, target);
-
+    @Override
+    public void update() {
         // Moves entity in random direction
         updateRandomMovement();
+    }
+
+    /***
+     * Method that returns the flying platform to its starting state at the given position, with no player on it
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        onPlatform = false;
+    }
 
+    /***
+     * Method that checks if the player lands on or walks off the flying platform. Checking more than once in the
+     * same frame has no further effect.
+     * @param target Reference to the Player object
+     * @return boolean Returns if the player is standing on this flying platform
+     */
+    public boolean collideWithTarget(Player target) {
         // Tests if the player fulfils the requirements to land on a flying platform.
         // If requirements are fulfilled, player's baseline vertical position is set to platform position
         if (playerOnPlatformVertical(target) && playerOnPlatformHorizontal(target) &&
@@ -60,6 +70,7 @@ public class FlyingPlatform extends RandomlyMovingEntity {
             target.resetBaseline();
             onPlatform = false;
         }
+        return onPlatform;
     }
 
     /***
@@ -0,0 +1,40 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class for the Java Flight Recorder event of one rendered frame, so hitches can be lined up against garbage
+ * collection and I/O in the same recording. Nothing is recorded unless a flight recording is running.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+@Name("shadowmario.Frame")
+@Label("Frame")
+@Category("Shadow Mario")
+@Description("One frame of the game window, covering the simulation ticks run and the drawing")
+public class FrameEvent extends Event {
+    @Label("Ticks")
+    @Description("Simulation ticks run during the frame")
+    int ticks;
+
+    @Label("Enemies")
+    int enemies;
+
+    @Label("Collectables")
+    @Description("Coins and power-ups in the level")
+    int collectables;
+
+    @Label("Flying Platforms")
+    int flyingPlatforms;
+
+    @Label("Fireballs")
+    @Description("Fireballs in play, thrown by the player or the enemy boss")
+    int fireballs;
+
+    @Label("Drawn")
+    @Description("Game objects drawn rather than culled")
+    int drawn;
+}
@@ -0,0 +1,337 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Class that times each phase of a simulation tick and of drawing a frame, along with the number of game objects
+ * and the rate memory is allocated at. Times are counted into histograms with eight buckets for each power of two,
+ * so recording a time is a few array operations and any percentile is accurate to within an eighth. Once every
+ * window of frames the histograms are summarised, shown in an overlay that can be toggled in the game, published
+ * over JMX and cleared.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class FrameProfiler implements FrameProfilerMXBean {
+    // Phases of a tick in the order they run, then the phases of drawing a frame, then the whole frame
+    public static final int PLATFORM = 0, ENEMIES = 1, COLLECTABLES = 2, FLYING_PLATFORMS = 3, PLAYER = 4,
+            END_FLAG = 5, BOSS = 6, HUD = 7, DRAW = 8, FRAME = 9;
+    private static final String[] PHASES = {"platform", "enemies", "coins+powers", "flying platforms", "player",
+            "end flag", "boss+fireballs", "hud text", "draw", "frame"};
+    // Kinds of game object counted
+    public static final int ENEMY_COUNT = 0, COLLECTABLE_COUNT = 1, FLYING_PLATFORM_COUNT = 2, FIREBALL_COUNT = 3,
+            DRAWN_COUNT = 4, BATCH_COUNT = 5;
+    private static final String[] COUNTS = {"enemies", "collectables", "flying platforms", "fireballs", "drawn", "batches"};
+    // Times below eight nanoseconds get a bucket each, and every power of two above that is split into eight
+    private static final int SUB_BUCKET_BITS = 3, SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private final int WINDOW_FRAMES;
+    private final long[][] histograms = new long[PHASES.length][BUCKETS];
+    private final long[] samples = new long[PHASES.length], maxima = new long[PHASES.length];
+    private final int[] counts = new int[COUNTS.length];
+    private long lapTime, frameStart, windowStart = System.nanoTime(), windowAllocated = allocatedBytes();
+    private int frames = 0;
+    private boolean overlayShown = false;
+    private volatile Summary summary = new Summary();
+
+    /**
+     * Constructor method for frame profiler class to initialise object when instantiated
+     * @param WINDOW_FRAMES Number of frames summarised together
+     */
+    public FrameProfiler(int WINDOW_FRAMES) {
+        this.WINDOW_FRAMES = WINDOW_FRAMES;
+    }
+
+    /***
+     * Method that publishes the profiler over JMX, so it can be read from outside the game. A failure to publish
+     * is reported but does not stop the game.
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName("ShadowMario:type=FrameProfiler"));
+        } catch (JMException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /***
+     * Method that starts timing the first of a run of phases
+     */
+    public void mark() {
+        lapTime = System.nanoTime();
+    }
+
+    /***
+     * Method that records the time since the last mark or lap as the time taken by the given phase, and starts
+     * timing the next phase
+     * @param phase Index of the phase that has just finished
+     */
+    public void lap(int phase) {
+        long now = System.nanoTime();
+        record(phase, now - lapTime);
+        lapTime = now;
+    }
+
+    /***
+     * Method that starts timing a frame
+     */
+    public void beginFrame() {
+        frameStart = System.nanoTime();
+    }
+
+    /***
+     * Method that records the time taken by a frame, and summarises the window once it is full
+     */
+    public void endFrame() {
+        long now = System.nanoTime();
+        record(FRAME, now - frameStart);
+        if (++frames >= WINDOW_FRAMES) {
+            summarise(now);
+        }
+    }
+
+    /***
+     * Method that sets the number of one kind of game object
+     * @param kind Index of the kind of game object
+     * @param count Number of game objects of that kind
+     */
+    public void setCount(int kind, int count) {
+        counts[kind] = count;
+    }
+
+    /***
+     * Method that gets and returns the number of one kind of game object, as last set
+     * @param kind Index of the kind of game object
+     * @return int Returns the number of game objects of that kind
+     */
+    public int getCount(int kind) {
+        return counts[kind];
+    }
+
+    /***
+     * Method that counts a time into the histogram of a phase
+     * @param phase Index of the phase
+     * @param nanos Time taken in nanoseconds
+     */
+    private void record(int phase, long nanos) {
+        histograms[phase][bucket(Math.max(0, nanos))]++;
+        samples[phase]++;
+        maxima[phase] = Math.max(maxima[phase], nanos);
+    }
+
+    /***
+     * Method that finds the histogram bucket a time is counted in
+     * @param nanos Time in nanoseconds, not negative
+     * @return int Returns the index of the bucket
+     */
+    private static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /***
+     * Method that finds the largest time counted in a histogram bucket
+     * @param bucket Index of the bucket
+     * @return long Returns the upper bound of the bucket in nanoseconds
+     */
+    private static long bucketLimit(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS + 1) << shift) - 1;
+    }
+
+    /***
+     * Method that finds the time under which the given fraction of a phase's samples fall
+     * @param phase Index of the phase
+     * @param fraction Fraction of samples, from 0 to 1
+     * @return long Returns the percentile in nanoseconds, no more than the longest time recorded
+     */
+    private long percentile(int phase, double fraction) {
+        long rank = (long) Math.ceil(fraction * samples[phase]), seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histograms[phase][i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(bucketLimit(i), maxima[phase]);
+            }
+        }
+        return 0;
+    }
+
+    /***
+     * Method that summarises the window that has just ended, publishes the summary and starts a new window
+     * @param now Time the window ended in nanoseconds
+     */
+    private void summarise(long now) {
+        double seconds = (now - windowStart) / 1_000_000_000.0;
+        long allocated = allocatedBytes();
+        Summary next = new Summary();
+        for (int i = 0; i < PHASES.length; i++) {
+            next.p50[i] = percentile(i, 0.5) / 1000.0;
+            next.p99[i] = percentile(i, 0.99) / 1000.0;
+            next.max[i] = maxima[i] / 1000.0;
+        }
+        next.counts = counts.clone();
+        next.allocatedBytesPerSecond = allocated < 0 ? -1 : Math.round((allocated - windowAllocated) / seconds);
+        next.ticksPerSecond = samples[PLATFORM] / seconds;
+        next.framesPerSecond = frames / seconds;
+
+        // The overlay text is only built here, so drawing the overlay allocates nothing
+        next.lines = new String[PHASES.length + 3];
+        next.lines[0] = String.format("%.0f fps, %.0f ticks/s   p50 / p99 / max us", next.framesPerSecond,
+                next.ticksPerSecond);
+        for (int i = 0; i < PHASES.length; i++) {
+            next.lines[i + 1] = String.format("%s  %.1f / %.1f / %.1f", PHASES[i], next.p50[i], next.p99[i],
+                    next.max[i]);
+        }
+        StringBuilder countLine = new StringBuilder();
+        for (int i = 0; i < COUNTS.length; i++) {
+            countLine.append(i == 0 ? "" : ", ").append(COUNTS[i]).append(' ').append(counts[i]);
+        }
+        next.lines[PHASES.length + 1] = countLine.toString();
+        next.lines[PHASES.length + 2] = next.allocatedBytesPerSecond < 0 ? "allocation rate unavailable" :
+                String.format("allocating %.1f KB/s", next.allocatedBytesPerSecond / 1024.0);
+        summary = next;
+
+        for (long[] histogram : histograms) {
+            Arrays.fill(histogram, 0);
+        }
+        Arrays.fill(samples, 0);
+        Arrays.fill(maxima, 0);
+        frames = 0;
+        windowStart = now;
+        windowAllocated = allocated;
+    }
+
+    /***
+     * Method that measures the memory allocated by the calling thread so far, if the JVM supports it
+     * @return long Returns the bytes allocated, or -1 if the JVM cannot measure it
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /***
+     * Method that shows the overlay if it is hidden, or hides it if it is shown
+     */
+    public void toggleOverlay() {
+        overlayShown = !overlayShown;
+    }
+
+    /***
+     * Method that draws the summary of the last window, if the overlay is shown
+     * @param renderer Renderer to draw the overlay with
+     * @param text Font size and position of the first line of the overlay
+     */
+    public void drawOverlay(Renderer renderer, TextConfig text) {
+        if (!overlayShown) {
+            return;
+        }
+        String[] lines = summary.lines;
+        for (int i = 0; i < lines.length; i++) {
+            renderer.drawString(text.getFontSize(), lines[i], text.getX(), text.getY() + i * text.getFontSize());
+        }
+    }
+
+    /***
+     * Method that maps each phase name to its value
+     * @param values Value of each phase
+     * @return Map Returns the values keyed by phase name, in the order the phases run
+     */
+    private static Map<String, Double> byPhase(double[] values) {
+        Map<String, Double> map = new LinkedHashMap<String, Double>();
+        for (int i = 0; i < PHASES.length; i++) {
+            map.put(PHASES[i], values[i]);
+        }
+        return map;
+    }
+
+    /***
+     * Method that gets and returns the median time taken by each phase
+     * @return Map Returns the median time of each phase in microseconds
+     */
+    public Map<String, Double> getP50Micros() {
+        return byPhase(summary.p50);
+    }
+
+    /***
+     * Method that gets and returns the 99th percentile of the time taken by each phase
+     * @return Map Returns the 99th percentile time of each phase in microseconds
+     */
+    public Map<String, Double> getP99Micros() {
+        return byPhase(summary.p99);
+    }
+
+    /***
+     * Method that gets and returns the longest time taken by each phase
+     * @return Map Returns the longest time of each phase in microseconds
+     */
+    public Map<String, Double> getMaxMicros() {
+        return byPhase(summary.max);
+    }
+
+    /***
+     * Method that gets and returns the number of each kind of game object at the end of the window
+     * @return Map Returns the number of game objects of each kind
+     */
+    public Map<String, Integer> getEntityCounts() {
+        int[] windowCounts = summary.counts;
+        Map<String, Integer> map = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < COUNTS.length; i++) {
+            map.put(COUNTS[i], windowCounts[i]);
+        }
+        return map;
+    }
+
+    /***
+     * Method that gets and returns the rate the game thread allocated memory at
+     * @return long Returns the bytes allocated per second, or -1 if the JVM cannot measure it
+     */
+    public long getAllocatedBytesPerSecond() {
+        return summary.allocatedBytesPerSecond;
+    }
+
+    /***
+     * Method that gets and returns the rate simulation ticks were run at
+     * @return double Returns the number of ticks per second
+     */
+    public double getTicksPerSecond() {
+        return summary.ticksPerSecond;
+    }
+
+    /***
+     * Method that gets and returns the rate frames were drawn at
+     * @return double Returns the number of frames per second
+     */
+    public double getFramesPerSecond() {
+        return summary.framesPerSecond;
+    }
+
+    /**
+     * Class for the summary of one window of frames. A summary is never changed once published, so it can be read
+     * from the JMX thread while the game thread fills the next window.
+     */
+    private static class Summary {
+        private final double[] p50 = new double[PHASES.length], p99 = new double[PHASES.length],
+                max = new double[PHASES.length];
+        private int[] counts = new int[COUNTS.length];
+        private long allocatedBytesPerSecond = -1;
+        private double ticksPerSecond, framesPerSecond;
+        private String[] lines = {"profiling..."};
+    }
+}
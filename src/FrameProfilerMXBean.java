@@ -0,0 +1,52 @@
+import java.util.Map;
+
+/**
+ * Interface for the frame timings published over JMX, so they can be read from a running game by any JMX client.
+ * Every value covers the last complete window of frames, with latencies keyed by the name of each phase.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public interface FrameProfilerMXBean {
+    /***
+     * Method that gets and returns the median time taken by each phase
+     * @return Map Returns the median time of each phase in microseconds
+     */
+    public Map<String, Double> getP50Micros();
+
+    /***
+     * Method that gets and returns the 99th percentile of the time taken by each phase
+     * @return Map Returns the 99th percentile time of each phase in microseconds
+     */
+    public Map<String, Double> getP99Micros();
+
+    /***
+     * Method that gets and returns the longest time taken by each phase
+     * @return Map Returns the longest time of each phase in microseconds
+     */
+    public Map<String, Double> getMaxMicros();
+
+    /***
+     * Method that gets and returns the number of each kind of game object at the end of the window
+     * @return Map Returns the number of game objects of each kind
+     */
+    public Map<String, Integer> getEntityCounts();
+
+    /***
+     * Method that gets and returns the rate the game thread allocated memory at
+     * @return long Returns the bytes allocated per second, or -1 if the JVM cannot measure it
+     */
+    public long getAllocatedBytesPerSecond();
+
+    /***
+     * Method that gets and returns the rate simulation ticks were run at
+     * @return double Returns the number of ticks per second
+     */
+    public double getTicksPerSecond();
+
+    /***
+     * Method that gets and returns the rate frames were drawn at
+     * @return double Returns the number of frames per second
+     */
+    public double getFramesPerSecond();
+}
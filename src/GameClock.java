@@ -0,0 +1,74 @@
+/**
+ * Class that runs the simulation at a fixed tick rate, separate from the rate frames are rendered at. Each frame,
+ * the time since the last frame is added to an accumulator and as many whole ticks as fit are run, so the game
+ * plays at the same speed on any display. What is left over sets how far between the last two ticks the frame is
+ * drawn. In turbo mode, a fixed number of ticks is run every frame instead, to fast-forward the game.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class GameClock {
+    private final long TICK_NANOS;
+    private final int MAX_TICKS_PER_FRAME, TURBO_TICKS;
+    private long previousTime = -1, accumulator = 0;
+    private boolean turbo = false;
+
+    /**
+     * Constructor method for game clock class to initialise object when instantiated
+     * @param CONFIG Parsed game properties to access the tick rate and ticks per frame
+     */
+    public GameClock(GameConfig CONFIG) {
+        this.TICK_NANOS = 1_000_000_000L / CONFIG.getTickRate();
+        this.MAX_TICKS_PER_FRAME = CONFIG.getMaxTicksPerFrame();
+        this.TURBO_TICKS = CONFIG.getTurboTicks();
+    }
+
+    /***
+     * Method that works out how many simulation ticks to run this frame. If the game has fallen too far behind,
+     * such as after a long hitch, the ticks it cannot catch up on are skipped rather than run all at once.
+     * @param time Current time in nanoseconds
+     * @return int Returns the number of ticks to run
+     */
+    public int advance(long time) {
+        long elapsed = previousTime < 0 ? 0 : time - previousTime;
+        previousTime = time;
+        if (turbo) {
+            accumulator = 0;
+            return TURBO_TICKS;
+        }
+
+        accumulator += elapsed;
+        long ticks = accumulator / TICK_NANOS;
+        if (ticks > MAX_TICKS_PER_FRAME) {
+            ticks = MAX_TICKS_PER_FRAME;
+            accumulator %= TICK_NANOS;
+        } else {
+            accumulator -= ticks * TICK_NANOS;
+        }
+        return (int) ticks;
+    }
+
+    /***
+     * Method that gets and returns how far the current frame is between the last two ticks, used to interpolate
+     * the positions game objects are drawn at
+     * @return double Returns the fraction of a tick since the last tick, from 0 to 1
+     */
+    public double getAlpha() {
+        return turbo ? 1 : (double) accumulator / TICK_NANOS;
+    }
+
+    /***
+     * Method that switches turbo mode on or off
+     */
+    public void toggleTurbo() {
+        turbo = !turbo;
+    }
+
+    /***
+     * Method that gets and returns if turbo mode is on
+     * @return boolean Returns if turbo mode is on
+     */
+    public boolean isTurbo() {
+        return this.turbo;
+    }
+}
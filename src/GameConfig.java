@@ -0,0 +1,456 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Class that holds the game properties, parsed and validated once when the game starts.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class GameConfig {
+    private static final int LEVEL_COUNT = 3;
+    private final int WINDOW_WIDTH, WINDOW_HEIGHT, CULL_MARGIN, STREAM_AHEAD, STREAM_BEHIND, TICK_RATE,
+            MAX_TICKS_PER_FRAME, TURBO_TICKS, PARALLEL_CHUNK_SIZE, PROFILER_WINDOW_FRAMES;
+    private final boolean STREAMING, HAS_SEED;
+    private final long SEED;
+    private final String FONT_FILE, BACKGROUND_IMAGE, REPLAY_DIRECTORY;
+    private final String[] LEVEL_FILES;
+    private final TextConfig TITLE, SCORE, MESSAGE, INSTRUCTION, PLAYER_HEALTH, ENEMY_BOSS_HEALTH,
+            PROFILER;
+    private final EntityConfig PLAYER, ENEMY, ENEMY_BOSS, PLATFORM, FLYING_PLATFORM, COIN, FIREBALL, DOUBLE_SCORE,
+            INVINCIBLE_POWER, END_FLAG;
+
+    /**
+     * Constructor method for game config class to parse and validate all game properties
+     * @param PROPS Game properties read from the properties file
+     * @throws IllegalArgumentException If a required property is missing or a value is not a valid number
+     */
+    public GameConfig(Properties PROPS) {
+        // Window, font and level files
+        WINDOW_WIDTH = EntityConfig.readInt(PROPS, "windowWidth");
+        WINDOW_HEIGHT = EntityConfig.readInt(PROPS, "windowHeight");
+        FONT_FILE = readString(PROPS, "font");
+        BACKGROUND_IMAGE = readString(PROPS, "backgroundImage");
+        CULL_MARGIN = EntityConfig.readInt(PROPS, "camera.cullMargin");
+        LEVEL_FILES = new String[LEVEL_COUNT];
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            LEVEL_FILES[i] = readString(PROPS, "level" + (i + 1) + "File");
+        }
+        TICK_RATE = EntityConfig.readInt(PROPS, "simulation.tickRate");
+        MAX_TICKS_PER_FRAME = EntityConfig.readInt(PROPS, "simulation.maxTicksPerFrame");
+        TURBO_TICKS = EntityConfig.readInt(PROPS, "simulation.turboTicks");
+        PARALLEL_CHUNK_SIZE = EntityConfig.readInt(PROPS, "simulation.parallelChunkSize");
+        HAS_SEED = PROPS.getProperty("random.seed") != null;
+        SEED = HAS_SEED ? readLong(PROPS, "random.seed") : 0;
+        REPLAY_DIRECTORY = PROPS.getProperty("replay.directory");
+        STREAMING = readBoolean(PROPS, "level.streaming");
+        STREAM_AHEAD = EntityConfig.readInt(PROPS, "level.streamAhead");
+        STREAM_BEHIND = EntityConfig.readInt(PROPS, "level.streamBehind");
+
+        // Text drawn on the screen
+        TITLE = new TextConfig(PROPS, "title");
+        SCORE = new TextConfig(PROPS, "score");
+        MESSAGE = new TextConfig(PROPS, "message");
+        INSTRUCTION = new TextConfig(PROPS, "instruction");
+        PLAYER_HEALTH = new TextConfig(PROPS, "playerHealth");
+        ENEMY_BOSS_HEALTH = new TextConfig(PROPS, "enemyBossHealth");
+        PROFILER = new TextConfig(PROPS, "profiler");
+        PROFILER_WINDOW_FRAMES = EntityConfig.readInt(PROPS, "profiler.windowFrames");
+
+        // Game objects, listing the properties each one cannot do without
+        PLAYER = new EntityConfig(PROPS, "player", "imageRight", "imageLeft", "radius", "health");
+        ENEMY = new EntityConfig(PROPS, "enemy", "image", "radius", "damageSize", "maxRandomDisplacementX",
+                "speed", "randomSpeed");
+        ENEMY_BOSS = new EntityConfig(PROPS, "enemyBoss", "image", "health", "radius", "activationRadius",
+                "speed");
+        PLATFORM = new EntityConfig(PROPS, "platform", "image", "speed");
+        FLYING_PLATFORM = new EntityConfig(PROPS, "flyingPlatform", "image", "maxRandomDisplacementX",
+                "halfLength", "halfHeight", "speed", "randomSpeed");
+        COIN = new EntityConfig(PROPS, "coin", "image", "radius", "value", "speed");
+        FIREBALL = new EntityConfig(PROPS, "fireball", "image", "radius", "damageSize", "speed", "maxActive");
+        DOUBLE_SCORE = new EntityConfig(PROPS, "doubleScore", "image", "radius", "maxFrames", "speed");
+        INVINCIBLE_POWER = new EntityConfig(PROPS, "invinciblePower", "image", "radius", "maxFrames", "speed");
+        END_FLAG = new EntityConfig(PROPS, "endFlag", "image", "radius", "speed");
+
+        if (WINDOW_WIDTH <= 0 || WINDOW_HEIGHT <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        if (FIREBALL.getMaxActive() <= 0) {
+            throw new IllegalArgumentException("Maximum number of active fireballs must be positive");
+        }
+        if (CULL_MARGIN < 0) {
+            throw new IllegalArgumentException("Cull margin must not be negative");
+        }
+        if (TICK_RATE <= 0 || MAX_TICKS_PER_FRAME <= 0 || TURBO_TICKS <= 0) {
+            throw new IllegalArgumentException("Simulation tick rate and ticks per frame must be positive");
+        }
+        if (PARALLEL_CHUNK_SIZE < 0) {
+            throw new IllegalArgumentException("Parallel update chunk size must not be negative");
+        }
+        if (PROFILER_WINDOW_FRAMES <= 0) {
+            throw new IllegalArgumentException("Profiler window must be at least one frame");
+        }
+        if (STREAM_AHEAD < 0 || STREAM_BEHIND < 0) {
+            throw new IllegalArgumentException("Level streaming distances must not be negative");
+        }
+    }
+
+    /***
+     * Method that reads a required text property
+     * @param PROPS Game properties to read from
+     * @param key Name of the property
+     * @return String Returns the value of the property
+     */
+    private static String readString(Properties PROPS, String key) {
+        String value = PROPS.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing game property " + key);
+        }
+        return value;
+    }
+
+    /***
+     * Method that reads a required whole number property that may not fit in an int
+     * @param PROPS Game properties to read from
+     * @param key Name of the property
+     * @return long Returns the parsed value of the property
+     */
+    private static long readLong(Properties PROPS, String key) {
+        String value = readString(PROPS, key);
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Game property " + key + " is not an integer: " + value, ex);
+        }
+    }
+
+    /***
+     * Method that reads an optional true or false property, which is false if missing
+     * @param PROPS Game properties to read from
+     * @param key Name of the property
+     * @return boolean Returns the value of the property
+     */
+    private static boolean readBoolean(Properties PROPS, String key) {
+        String value = PROPS.getProperty(key);
+        return value != null && Boolean.parseBoolean(value.trim());
+    }
+
+    /***
+     * Method that gets and returns every image file used by the game
+     * @return List Returns the paths to all image files
+     */
+    public List<String> getImageFiles() {
+        List<String> images = new ArrayList<String>();
+        images.add(BACKGROUND_IMAGE);
+        images.add(PLAYER.getImageLeft());
+        for (EntityConfig entity : new EntityConfig[]{PLAYER, ENEMY, ENEMY_BOSS, PLATFORM, FLYING_PLATFORM, COIN,
+                FIREBALL, DOUBLE_SCORE, INVINCIBLE_POWER, END_FLAG}) {
+            images.add(entity.getImage());
+        }
+        return images;
+    }
+
+    /***
+     * Method that gets and returns every font size used by the text drawn on the screen, without repeats
+     * @return List Returns the font sizes
+     */
+    public List<Integer> getFontSizes() {
+        List<Integer> fontSizes = new ArrayList<Integer>();
+        for (TextConfig text : new TextConfig[]{TITLE, SCORE, MESSAGE, INSTRUCTION, PLAYER_HEALTH,
+                ENEMY_BOSS_HEALTH, PROFILER}) {
+            if (!fontSizes.contains(text.getFontSize())) {
+                fontSizes.add(text.getFontSize());
+            }
+        }
+        return fontSizes;
+    }
+
+    /***
+     * Method that gets and returns the width of the game window
+     * @return int Returns the window width
+     */
+    public int getWindowWidth() {
+        return WINDOW_WIDTH;
+    }
+
+    /***
+     * Method that gets and returns the height of the game window
+     * @return int Returns the window height
+     */
+    public int getWindowHeight() {
+        return WINDOW_HEIGHT;
+    }
+
+    /***
+     * Method that gets and returns how far outside the window an entity can be and still be drawn
+     * @return int Returns the cull margin
+     */
+    public int getCullMargin() {
+        return CULL_MARGIN;
+    }
+
+    /***
+     * Method that gets and returns the font file used for all text
+     * @return String Returns the path to the font file
+     */
+    public String getFontFile() {
+        return FONT_FILE;
+    }
+
+    /***
+     * Method that gets and returns the background image file
+     * @return String Returns the path to the background image
+     */
+    public String getBackgroundImage() {
+        return BACKGROUND_IMAGE;
+    }
+
+    /***
+     * Method that gets and returns the number of levels in the game
+     * @return int Returns the number of levels
+     */
+    public int getLevelCount() {
+        return LEVEL_COUNT;
+    }
+
+    /***
+     * Method that gets and returns the CSV file of the given level
+     * @param levelNumber Number of the level, starting from 1
+     * @return String Returns the path to the level file
+     * @throws IllegalArgumentException If there is no level of the given number
+     */
+    public String getLevelFile(int levelNumber) {
+        if (levelNumber < 1 || levelNumber > LEVEL_COUNT) {
+            throw new IllegalArgumentException("No level " + levelNumber + ", levels are 1 to " + LEVEL_COUNT);
+        }
+        return LEVEL_FILES[levelNumber - 1];
+    }
+
+    /***
+     * Method that gets and returns the number of simulation ticks per second, whatever the display's refresh rate
+     * @return int Returns the tick rate
+     */
+    public int getTickRate() {
+        return this.TICK_RATE;
+    }
+
+    /***
+     * Method that gets and returns the most simulation ticks run to catch up in one rendered frame
+     * @return int Returns the maximum number of ticks per frame
+     */
+    public int getMaxTicksPerFrame() {
+        return this.MAX_TICKS_PER_FRAME;
+    }
+
+    /***
+     * Method that gets and returns the number of simulation ticks run per rendered frame in turbo mode
+     * @return int Returns the number of ticks per frame in turbo mode
+     */
+    public int getTurboTicks() {
+        return this.TURBO_TICKS;
+    }
+
+    /***
+     * Method that gets and returns the number of enemies or flying platforms updated by each fork-join task
+     * @return int Returns the chunk size, or zero if every entity is updated on the game thread
+     */
+    public int getParallelChunkSize() {
+        return this.PARALLEL_CHUNK_SIZE;
+    }
+
+    /***
+     * Method that gets and returns if a random seed is set in the game properties
+     * @return boolean Returns if a random seed is set
+     */
+    public boolean hasSeed() {
+        return this.HAS_SEED;
+    }
+
+    /***
+     * Method that gets and returns the random seed set in the game properties
+     * @return long Returns the random seed, or zero if none is set
+     */
+    public long getSeed() {
+        return this.SEED;
+    }
+
+    /***
+     * Method that gets and returns the directory replays of each level played are saved into
+     * @return String Returns the path to the replay directory, or null if replays are not saved
+     */
+    public String getReplayDirectory() {
+        return this.REPLAY_DIRECTORY;
+    }
+
+    /***
+     * Method that gets and returns if levels are streamed from their level file as the player advances, rather
+     * than loaded all at once
+     * @return boolean Returns if levels are streamed
+     */
+    public boolean isStreaming() {
+        return this.STREAMING;
+    }
+
+    /***
+     * Method that gets and returns how far past the right of the camera's view game objects are created when
+     * streaming a level
+     * @return int Returns the distance ahead of the view
+     */
+    public int getStreamAhead() {
+        return this.STREAM_AHEAD;
+    }
+
+    /***
+     * Method that gets and returns how far past the left of the camera's view game objects are dropped when
+     * streaming a level
+     * @return int Returns the distance behind the view
+     */
+    public int getStreamBehind() {
+        return this.STREAM_BEHIND;
+    }
+
+    /***
+     * Method that gets and returns the title text properties
+     * @return TextConfig Returns the title text properties
+     */
+    public TextConfig getTitle() {
+        return TITLE;
+    }
+
+    /***
+     * Method that gets and returns the score text properties
+     * @return TextConfig Returns the score text properties
+     */
+    public TextConfig getScore() {
+        return SCORE;
+    }
+
+    /***
+     * Method that gets and returns the end screen message text properties
+     * @return TextConfig Returns the message text properties
+     */
+    public TextConfig getMessage() {
+        return MESSAGE;
+    }
+
+    /***
+     * Method that gets and returns the instruction text properties
+     * @return TextConfig Returns the instruction text properties
+     */
+    public TextConfig getInstruction() {
+        return INSTRUCTION;
+    }
+
+    /***
+     * Method that gets and returns the player health text properties
+     * @return TextConfig Returns the player health text properties
+     */
+    public TextConfig getPlayerHealth() {
+        return PLAYER_HEALTH;
+    }
+
+    /***
+     * Method that gets and returns the enemy boss health text properties
+     * @return TextConfig Returns the enemy boss health text properties
+     */
+    public TextConfig getEnemyBossHealth() {
+        return ENEMY_BOSS_HEALTH;
+    }
+
+    /***
+     * Method that gets and returns the profiler overlay text properties
+     * @return TextConfig Returns the profiler overlay text properties
+     */
+    public TextConfig getProfiler() {
+        return PROFILER;
+    }
+
+    /***
+     * Method that gets and returns the number of frames the profiler summarises together
+     * @return int Returns the number of frames in each profiler window
+     */
+    public int getProfilerWindowFrames() {
+        return this.PROFILER_WINDOW_FRAMES;
+    }
+
+    /***
+     * Method that gets and returns the player properties
+     * @return EntityConfig Returns the player properties
+     */
+    public EntityConfig getPlayer() {
+        return PLAYER;
+    }
+
+    /***
+     * Method that gets and returns the enemy properties
+     * @return EntityConfig Returns the enemy properties
+     */
+    public EntityConfig getEnemy() {
+        return ENEMY;
+    }
+
+    /***
+     * Method that gets and returns the enemy boss properties
+     * @return EntityConfig Returns the enemy boss properties
+     */
+    public EntityConfig getEnemyBoss() {
+        return ENEMY_BOSS;
+    }
+
+    /***
+     * Method that gets and returns the platform properties
+     * @return EntityConfig Returns the platform properties
+     */
+    public EntityConfig getPlatform() {
+        return PLATFORM;
+    }
+
+    /***
+     * Method that gets and returns the flying platform properties
+     * @return EntityConfig Returns the flying platform properties
+     */
+    public EntityConfig getFlyingPlatform() {
+        return FLYING_PLATFORM;
+    }
+
+    /***
+     * Method that gets and returns the coin properties
+     * @return EntityConfig Returns the coin properties
+     */
+    public EntityConfig getCoin() {
+        return COIN;
+    }
+
+    /***
+     * Method that gets and returns the fireball properties
+     * @return EntityConfig Returns the fireball properties
+     */
+    public EntityConfig getFireball() {
+        return FIREBALL;
+    }
+
+    /***
+     * Method that gets and returns the double score power-up properties
+     * @return EntityConfig Returns the double score power-up properties
+     */
+    public EntityConfig getDoubleScore() {
+        return DOUBLE_SCORE;
+    }
+
+    /***
+     * Method that gets and returns the invincibility power-up properties
+     * @return EntityConfig Returns the invincibility power-up properties
+     */
+    public EntityConfig getInvinciblePower() {
+        return INVINCIBLE_POWER;
+    }
+
+    /***
+     * Method that gets and returns the end flag properties
+     * @return EntityConfig Returns the end flag properties
+     */
+    public EntityConfig getEndFlag() {
+        return END_FLAG;
+    }
+}
@@ -0,0 +1,23 @@
+import bagel.Keys;
+
+/**
+ * Interface for the keyboard state that drives the game, so the game can be played from a window or from a script
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public interface GameInput {
+    /***
+     * Method that determines if the given key is currently held down
+     * @param key Key to test
+     * @return boolean Returns if the key is held down
+     */
+    public boolean isDown(Keys key);
+
+    /***
+     * Method that determines if the given key was pressed since the last update
+     * @param key Key to test
+     * @return boolean Returns if the key was pressed
+     */
+    public boolean wasPressed(Keys key);
+}
@@ -0,0 +1,84 @@
+/**
+ * Class for the random number generator used by every random decision in the game. It uses the SplitMix64
+ * algorithm, whose whole state is one number, so it can be seeded to make a run reproducible and draws numbers
+ * without allocating. Each level reseeds it from the game's seed, so a level plays out the same each time it is
+ * started with the same seed and input.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private long state;
+
+    /**
+     * Constructor method for game random class to initialise object when instantiated
+     * @param seed Seed to start the sequence of random numbers from
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /***
+     * Method that restarts the sequence of random numbers from the given seed
+     * @param seed Seed to start the sequence of random numbers from
+     */
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    /***
+     * Method that scrambles the bits of a number, so that seeds close together give unrelated sequences
+     * @param value Number to scramble
+     * @return long Returns the scrambled number
+     */
+    public static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /***
+     * Method that gets and returns the next random number, with all 64 bits random
+     * @return long Returns the next random number
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /***
+     * Method that gets and returns a random true or false value, each equally likely
+     * @return boolean Returns the random value
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /***
+     * Method that gets and returns a random whole number from zero up to but not including the given bound, each
+     * equally likely
+     * @param bound Number the random number must be less than, which must be positive
+     * @return int Returns the random number
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        // Numbers from the uneven remainder at the top of the range are drawn again, so no result is more likely
+        long limit = (1L << 31) - (1L << 31) % bound;
+        long value;
+        do {
+            value = nextLong() >>> 33;
+        } while (value >= limit);
+        return (int) (value % bound);
+    }
+
+    /***
+     * Method that gets and returns a random decimal number from zero up to but not including one
+     * @return double Returns the random number
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.Properties;
+
+/**
+ * Class for one game played without a window, either by the scripted bot of the headless runner or from a
+ * replay. A session owns its level and everything in it, so many sessions can be played at once on different
+ * threads. A session is played a slice of ticks at a time, so it can be paused between slices and picked up again
+ * on any thread.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class GameSession {
+    private final int ID, WINDOW_HEIGHT, LEVEL_NUMBER;
+    private final long MAX_TICKS;
+    private final String NAME;
+    private final Level LEVEL;
+    private final ScriptedInput BOT_INPUT;
+    private final ReplayInput REPLAY_INPUT;
+    private long ticks = 0, nanos = 0;
+    private String outcome = null;
+
+    /**
+     * Constructor method for game session class for a game played by the scripted bot
+     * @param ID Number of the session
+     * @param CONFIG Parsed game properties to access information about game objects
+     * @param message_props Message properties to access message values for the level's text
+     * @param levelNumber Number of the level to play, starting from 1
+     * @param seed Seed of the random numbers of the level
+     * @param MAX_TICKS Number of ticks played before the session ends, if the game has not ended before then
+     */
+    public GameSession(int ID, GameConfig CONFIG, Properties message_props, int levelNumber, long seed,
+                       long MAX_TICKS) {
+        this(ID, "bot", CONFIG, message_props, levelNumber, seed, MAX_TICKS, new ScriptedInput(), null);
+    }
+
+    /**
+     * Constructor method for game session class for a game played back from a replay, with the seed it was
+     * played with, to check how it ends
+     * @param ID Number of the session
+     * @param NAME Name of the replay, such as its file
+     * @param CONFIG Parsed game properties to access information about game objects
+     * @param message_props Message properties to access message values for the level's text
+     * @param replay Replay to play back
+     */
+    public GameSession(int ID, String NAME, GameConfig CONFIG, Properties message_props, Replay replay) {
+        this(ID, NAME, CONFIG, message_props, replay.getLevelNumber(), replay.getSeed(), replay.getTickCount(),
+                null, new ReplayInput(replay));
+    }
+
+    /**
+     * Constructor method for game session class to initialise object when instantiated
+     * @param ID Number of the session
+     * @param NAME Name of the session
+     * @param CONFIG Parsed game properties to access information about game objects
+     * @param message_props Message properties to access message values for the level's text
+     * @param levelNumber Number of the level to play, starting from 1
+     * @param seed Seed of the random numbers of the level
+     * @param MAX_TICKS Number of ticks played before the session ends, if the game has not ended before then
+     * @param BOT_INPUT Input set by the scripted bot, or null when playing back a replay
+     * @param REPLAY_INPUT Input played back from a replay, or null when played by the bot
+     */
+    private GameSession(int ID, String NAME, GameConfig CONFIG, Properties message_props, int levelNumber,
+                        long seed, long MAX_TICKS, ScriptedInput BOT_INPUT, ReplayInput REPLAY_INPUT) {
+        this.ID = ID;
+        this.NAME = NAME;
+        this.LEVEL_NUMBER = levelNumber;
+        this.WINDOW_HEIGHT = CONFIG.getWindowHeight();
+        this.MAX_TICKS = MAX_TICKS;
+        this.BOT_INPUT = BOT_INPUT;
+        this.REPLAY_INPUT = REPLAY_INPUT;
+
+        // Nothing is drawn, as only how the game ends matters
+        LEVEL = new Level(CONFIG, message_props, new RecordingRenderer(false));
+        LEVEL.setSeed(seed);
+        // A replay can name a level the game does not have, which ends only this session rather than the host
+        try {
+            LEVEL.loadLevel(levelNumber);
+        } catch (RuntimeException ex) {
+            fail(ex);
+        }
+    }
+
+    /***
+     * Method that plays up to the given number of ticks, checking after each tick whether the game was won or
+     * lost the same way the game does. A session whose level failed to load has already ended, and plays nothing.
+     * @param budget Largest number of ticks to play in this slice
+     * @return boolean Returns if the session has ended
+     */
+    public boolean play(int budget) {
+        long start = System.nanoTime();
+        for (int i = 0; i < budget && outcome == null; i++) {
+            if (ticks == MAX_TICKS) {
+                outcome = "still playing";
+            } else if (nextTick()) {
+                ticks++;
+                if (LEVEL.endFlagCollided()) {
+                    outcome = "won";
+                } else if (LEVEL.gameOver(WINDOW_HEIGHT)) {
+                    outcome = "lost";
+                }
+            }
+        }
+        nanos += System.nanoTime() - start;
+        return outcome != null;
+    }
+
+    /***
+     * Method that plays the next tick with the session's input
+     * @return boolean Returns if there was another tick to play, or false once a replay has been played back
+     */
+    private boolean nextTick() {
+        if (BOT_INPUT != null) {
+            HeadlessRunner.scriptTick(BOT_INPUT, ticks);
+            LEVEL.updateGameObjects(BOT_INPUT);
+            BOT_INPUT.endTick();
+            return true;
+        }
+        if (!REPLAY_INPUT.nextTick()) {
+            outcome = "still playing";
+            return false;
+        }
+        LEVEL.updateGameObjects(REPLAY_INPUT);
+        return true;
+    }
+
+    /***
+     * Method that ends the session early because playing it failed
+     * @param ex Exception or error thrown while playing the session
+     */
+    public void fail(Throwable ex) {
+        outcome = "failed (" + ex + ")";
+    }
+
+    /***
+     * Method that gets and returns the number of the session
+     * @return int Returns the number of the session
+     */
+    public int getId() {
+        return this.ID;
+    }
+
+    /***
+     * Method that gets and returns the name of the session
+     * @return String Returns the name of the session
+     */
+    public String getName() {
+        return this.NAME;
+    }
+
+    /***
+     * Method that gets and returns the number of the level the session plays, even if it failed to load
+     * @return int Returns the level number, starting from 1
+     */
+    public int getLevelNumber() {
+        return this.LEVEL_NUMBER;
+    }
+
+    /***
+     * Method that gets and returns the level being played
+     * @return Level Returns the level of the session
+     */
+    public Level getLevel() {
+        return this.LEVEL;
+    }
+
+    /***
+     * Method that gets and returns the number of ticks played so far
+     * @return long Returns the number of ticks played
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /***
+     * Method that gets and returns the time spent playing the session so far
+     * @return long Returns the time spent playing, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /***
+     * Method that gets and returns how the session ended
+     * @return String Returns won, lost, still playing or failed, or null if the session has not ended
+     */
+    public String getOutcome() {
+        return this.outcome;
+    }
+}
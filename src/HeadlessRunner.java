@@ -0,0 +1,114 @@
+import bagel.Keys;
+import java.util.Properties;
+
+/**
+ * Class that runs a level without a window, for automated testing and measuring how fast the game can be
+ * simulated.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class HeadlessRunner {
+    private static final String USAGE = "Usage: HeadlessRunner LEVEL TICKS [--record] [--seed SEED]";
+    private static final int JUMP_INTERVAL = 40, FIREBALL_INTERVAL = 20;
+
+    /**
+     * The entry point for running a level without a window.
+     * Usage: HeadlessRunner LEVEL TICKS [--record] [--seed SEED]
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(-1);
+        }
+        GameConfig config = IOUtils.readGameConfig("res/app.properties");
+        Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
+
+        int levelNumber = 0, ticks = 0;
+        boolean record = false;
+        Long seed = null;
+        try {
+            levelNumber = Integer.parseInt(args[0]);
+            ticks = Integer.parseInt(args[1]);
+            for (int i = 2; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--record")) {
+                    record = true;
+                } else if (!option.equals("--seed")) {
+                    throw new IllegalArgumentException("Unknown option " + option);
+                } else if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                } else {
+                    seed = Long.parseLong(args[++i]);
+                }
+            }
+            if (levelNumber < 1 || levelNumber > config.getLevelCount()) {
+                throw new IllegalArgumentException("Level must be from 1 to " + config.getLevelCount());
+            }
+            if (ticks <= 0) {
+                throw new IllegalArgumentException("Number of ticks must be positive");
+            }
+        } catch (IllegalArgumentException ex) {
+            // A number that cannot be parsed is reported the same way, as NumberFormatException is one of these
+            System.err.println(ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(-1);
+        }
+
+        RecordingRenderer renderer = new RecordingRenderer(record);
+        Level level = new Level(config, message_props, renderer);
+        if (seed != null) {
+            level.setSeed(seed);
+        }
+        level.loadLevel(levelNumber);
+
+        long start = System.nanoTime();
+        runTicks(level, new ScriptedInput(), ticks);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("Level %d: %d ticks in %.3f s (%.0f ticks/sec)%n", levelNumber, ticks, seconds,
+                ticks / seconds);
+        System.out.printf("Random seed %d%n", level.getSeed());
+        System.out.printf("Score %d, %d images and %d text lines drawn%n", level.getScore(),
+                renderer.getImageDraws(), renderer.getStringDraws());
+        System.out.printf("Last frame: %d entities drawn, %d culled%n", level.getCamera().getDrawnCount(),
+                level.getCamera().getCulledCount());
+        if (record) {
+            for (String command : renderer.getCommands()) {
+                System.out.println(command);
+            }
+        }
+    }
+
+    /***
+     * Method that plays the level for the given number of ticks by walking right, jumping and throwing fireballs
+     * at a fixed rhythm
+     * @param level Level to play, already loaded
+     * @param input Scripted input to drive the level with
+     * @param ticks Number of ticks to run
+     */
+    public static void runTicks(Level level, ScriptedInput input, int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            scriptTick(input, tick);
+            level.renderEnvironment(input);
+            input.endTick();
+        }
+    }
+
+    /***
+     * Method that sets the scripted input for one tick, walking right, jumping and throwing fireballs at a fixed
+     * rhythm
+     * @param input Scripted input to set
+     * @param tick Number of the tick, starting from 0
+     */
+    public static void scriptTick(ScriptedInput input, long tick) {
+        input.setDown(Keys.RIGHT, true);
+        if (tick % JUMP_INTERVAL == 0) {
+            input.press(Keys.UP);
+        }
+        if (tick % FIREBALL_INTERVAL == 0) {
+            input.press(Keys.S);
+        }
+    }
+}
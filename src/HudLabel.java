@@ -0,0 +1,109 @@
+import bagel.util.Colour;
+
+/**
+ * Class for a line of text drawn over the game, either fixed or a fixed prefix followed by a number. The text is
+ * only built again when the number changes, and the width of centred text is only measured again when the text
+ * changes, so drawing a label that has not changed allocates nothing.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class HudLabel {
+    private final TextConfig TEXT;
+    private final String PREFIX;
+    private final boolean CENTRED;
+    private final double CENTRE_X;
+    private String text;
+    private long value;
+    private boolean hasValue = false;
+    private double width = -1;
+
+    /**
+     * Constructor method for HUD label class for text drawn from the position in its text properties
+     * @param TEXT Font size and position of the text
+     * @param PREFIX Text of the label, followed by its number if it is given one
+     */
+    public HudLabel(TextConfig TEXT, String PREFIX) {
+        this(TEXT, PREFIX, false, 0);
+    }
+
+    /**
+     * Constructor method for HUD label class for text centred horizontally on the given position, at the height
+     * in its text properties
+     * @param TEXT Font size and height of the text
+     * @param PREFIX Text of the label, followed by its number if it is given one
+     * @param CENTRE_X Horizontal position to centre the text on
+     */
+    public HudLabel(TextConfig TEXT, String PREFIX, double CENTRE_X) {
+        this(TEXT, PREFIX, true, CENTRE_X);
+    }
+
+    /**
+     * Constructor method for HUD label class to initialise object when instantiated
+     * @param TEXT Font size and position of the text
+     * @param PREFIX Text of the label, followed by its number if it is given one
+     * @param CENTRED Whether the text is centred on the given position rather than drawn from its text properties
+     * @param CENTRE_X Horizontal position to centre the text on
+     */
+    private HudLabel(TextConfig TEXT, String PREFIX, boolean CENTRED, double CENTRE_X) {
+        this.TEXT = TEXT;
+        this.PREFIX = PREFIX;
+        this.CENTRED = CENTRED;
+        this.CENTRE_X = CENTRE_X;
+        this.text = PREFIX;
+    }
+
+    /***
+     * Method that sets the number shown after the prefix, building the text again only if the number changed
+     * @param value Number to show
+     */
+    public void setValue(long value) {
+        if (!hasValue || value != this.value) {
+            this.value = value;
+            this.hasValue = true;
+            this.text = PREFIX + value;
+            this.width = -1;
+        }
+    }
+
+    /***
+     * Method that draws the label
+     * @param renderer Renderer to draw the label with
+     */
+    public void draw(Renderer renderer) {
+        renderer.drawString(TEXT.getFontSize(), text, getX(renderer), TEXT.getY());
+    }
+
+    /***
+     * Method that draws the label in the given colour
+     * @param renderer Renderer to draw the label with
+     * @param colour Colour of the text
+     */
+    public void draw(Renderer renderer, Colour colour) {
+        renderer.drawString(TEXT.getFontSize(), text, getX(renderer), TEXT.getY(), colour);
+    }
+
+    /***
+     * Method that finds the horizontal position to draw the text from, measuring centred text only when it has
+     * changed since it was last measured
+     * @param renderer Renderer to measure the text with
+     * @return double Returns the horizontal position of the left of the text
+     */
+    private double getX(Renderer renderer) {
+        if (!CENTRED) {
+            return TEXT.getX();
+        }
+        if (width < 0) {
+            width = renderer.getStringWidth(TEXT.getFontSize(), text);
+        }
+        return CENTRE_X - width / 2;
+    }
+
+    /***
+     * Method that gets and returns the text of the label as it is drawn
+     * @return String Returns the text of the label
+     */
+    public String getText() {
+        return this.text;
+    }
+}
@@ -1,10 +1,16 @@
 import java.io.*;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
 import java.util.Properties;
-import java.util.List;
+import java.util.zip.GZIPInputStream;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 /**
- * Class that contains methods to read a CSV file and a properties file.
+ * Class that contains methods to read a level file, a properties file and image headers.
  * Adapted from SWEN20003 Project 1 Solution by Dimuthu Kariyawasan & Tharun Dharmawickrema.
  *
  * @author Lachlan Chue
@@ -13,24 +19,28 @@ import java.util.List;
 public class IOUtils {
 
     /***
-     * Method that reads a CSV file and return a list of String arrays
-     * @param csvFile: the path to the CSV file
-     * @return: List<String[]>. Each String[] array represents elements in a single line in the CSV file
+     * Method that opens a level file to read its game objects one at a time. A compiled binary level file next to
+     * the CSV level file is read instead if it is newer, either memory-mapped or, if compressed, decompressed into
+     * memory.
+     * @param levelFile: the path to the CSV level file
+     * @return: LevelReader. Reads the game objects of the level in the order they are listed
      */
-    public static List<String[]> readCsv(String csvFile) {
+    public static LevelReader openLevel(String levelFile) {
         try {
-            BufferedReader reader = new BufferedReader(new FileReader(csvFile));
-            List<String[]> lines = new ArrayList<String[]>();
-            String textRead;
-
-            while ((textRead = reader.readLine()) != null) {
-                String[] splitText = textRead.split(",");
-                lines.add(splitText);
+            File csv = new File(levelFile);
+            File binary = new File(toBinaryLevelFile(levelFile));
+            File compressed = new File(binary.getPath() + ".gz");
+            if (binary.isFile() && binary.lastModified() >= csv.lastModified()) {
+                try (FileChannel channel = FileChannel.open(binary.toPath(), StandardOpenOption.READ)) {
+                    // The mapping stays valid after the channel is closed
+                    return new BinaryLevelReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                }
+            } else if (compressed.isFile() && compressed.lastModified() >= csv.lastModified()) {
+                try (InputStream in = new GZIPInputStream(new FileInputStream(compressed))) {
+                    return new BinaryLevelReader(ByteBuffer.wrap(in.readAllBytes()));
+                }
             }
-            return lines;
-        } catch (FileNotFoundException ex) {
-            ex.printStackTrace();
-            System.exit(-1);
+            return new CsvLevelReader(levelFile);
         } catch (IOException ex) {
             ex.printStackTrace();
             System.exit(-1);
@@ -39,6 +49,16 @@ public class IOUtils {
         return null;
     }
 
+    /***
+     * Method that finds the path of the binary level file compiled from a CSV level file
+     * @param csvFile: the path to the CSV level file
+     * @return: String. The path to the binary level file, with the same name ending in .bin
+     */
+    public static String toBinaryLevelFile(String csvFile) {
+        String name = csvFile.endsWith(".csv") ? csvFile.substring(0, csvFile.length() - 4) : csvFile;
+        return name + ".bin";
+    }
+
     /***
      * Method that reads a properties file and return a Properties object
      * @param configFile: the path to the properties file
@@ -55,4 +75,45 @@ public class IOUtils {
 
         return appProps;
     }
+
+    /***
+     * Method that reads a properties file and parses it into the game config, validating every property once
+     * @param configFile: the path to the properties file
+     * @return: GameConfig object
+     */
+    public static GameConfig readGameConfig(String configFile) {
+        try {
+            return new GameConfig(readPropertiesFile(configFile));
+        } catch (IllegalArgumentException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        return null;
+    }
+
+    /***
+     * Method that reads the width of an image from its file header without decoding the image
+     * @param imageFile: the path to the image file
+     * @return: int. The width of the image in pixels
+     */
+    public static int readImageWidth(String imageFile) {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new File(imageFile))) {
+            if (stream == null) {
+                throw new FileNotFoundException(imageFile);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image file " + imageFile);
+            }
+            ImageReader reader = readers.next();
+            reader.setInput(stream);
+            return reader.getWidth(0);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        return 0;
+    }
 }
\ No newline at end of file
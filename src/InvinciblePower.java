@@ -1,6 +1,3 @@
-import bagel.*;
-import java.util.Properties;
-
 /**
  * Class for the invincibility power-up.
  *
@@ -11,16 +8,13 @@ public class InvinciblePower extends PowerUp {
 
     /**
      * Constructor method for invincibility power-up class to initialise object when instantiated
-     * @param x Horizontal position of entity in game environment
-     * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public InvinciblePower(double x, double y, Properties PROPS) {
+    public InvinciblePower(GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.invinciblePower.radius")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.invinciblePower.speed")),
-                new Image(PROPS.getProperty("gameObjects.invinciblePower.image")),
-                Integer.parseInt(PROPS.getProperty("gameObjects.invinciblePower.maxFrames")));
+        super(CONFIG.getInvinciblePower().getRadius(), CONFIG.getInvinciblePower().getSpeed(),
+                CONFIG.getInvinciblePower().getImage(),
+                CONFIG.getInvinciblePower().getMaxFrames());
     }
 
     /***
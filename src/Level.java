@@ -1,7 +1,6 @@
-import bagel.*;
+import bagel.Keys;
 import bagel.util.Colour;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Properties;
 
 /**
@@ -11,57 +10,65 @@ import java.util.Properties;
  * @version 1.16
  */
 public class Level {
-    private final String FONT_FILE;
-    private final Font SCORE_FONT;
-    private final int SCORE_X;
-    private final int SCORE_Y;
-    private final Font HEALTH_FONT;
-    private final int HEALTH_X;
-    private final int HEALTH_Y;
-    private final Font BOSS_HEALTH_FONT;
-    private final int BOSS_HEALTH_X;
-    private final int BOSS_HEALTH_Y;
+    private static final int COIN = 0, DOUBLE_SCORE = 1, INVINCIBLE_POWER = 2;
+    private final HudLabel SCORE_LABEL, HEALTH_LABEL, BOSS_HEALTH_LABEL;
+    private final TextConfig PROFILER_TEXT;
     private int score;
     private Player player;
     private Platform platform;
+    private Camera camera;
     private EnemyBoss enemyBoss;
-    private ArrayList<Enemy> enemies;
-    private ArrayList<Coin> coins;
-    private ArrayList<InvinciblePower> invinciblePowers;
-    private ArrayList<DoubleScore> doubleScores;
-    private ArrayList<FlyingPlatform> flyingPlatforms;
+    private final CollectableStore collectables;
+    private ArrayList<FlyingPlatform> occupiedPlatforms = new ArrayList<FlyingPlatform>();
+    private final Broadphase<Enemy> enemyBroadphase;
+    private final Broadphase<FlyingPlatform> flyingPlatformBroadphase;
+    // Entities no longer in the level, kept to be respawned rather than created again
+    private final ArrayList<Enemy> spareEnemies = new ArrayList<Enemy>();
+    private final ArrayList<FlyingPlatform> spareFlyingPlatforms = new ArrayList<FlyingPlatform>();
     private EndFlag endFlag;
-    private final Properties PROPS, MESSAGE_PROPS;
-    private boolean enemyBossExists = false;
-    DrawOptions options;
+    private LevelReader levelReader;
+    private boolean rowPending = false;
+    private final GameConfig CONFIG;
+    private final DrawQueue RENDERER;
+    private boolean enemyBossExists = false, endFlagExists = false;
+    private final GameRandom RANDOM = new GameRandom(0);
+    private long seed;
+    private int levelNumber;
+    private final FrameProfiler PROFILER;
+    private final ParallelUpdater UPDATER;
 
     /**
      * Constructor method for level class to initialise object when instantiated
-     * @param game_props Game properties to access information about game object
+     * @param config Parsed game properties to access information about game object
      * @param message_props Message properties to access message values for Font objects
+     * @param renderer Renderer to draw the level with
      */
-    public Level(Properties game_props, Properties message_props) {
-        // Initialise Font objects to display text in window during game run-through
-        FONT_FILE = game_props.getProperty("font");
+    public Level(GameConfig config, Properties message_props, Renderer renderer) {
+        // Create the labels of text to display in window during game run-through, which keep their text until
+        // the number they show changes
+        SCORE_LABEL = new HudLabel(config.getScore(), message_props.getProperty("score"));
+        HEALTH_LABEL = new HudLabel(config.getPlayerHealth(), message_props.getProperty("health"));
+        BOSS_HEALTH_LABEL = new HudLabel(config.getEnemyBossHealth(), message_props.getProperty("health"));
+        PROFILER_TEXT = config.getProfiler();
 
-        SCORE_FONT = new Font(FONT_FILE, Integer.parseInt(game_props.getProperty("score.fontSize")));
-        SCORE_X = Integer.parseInt(game_props.getProperty("score.x"));
-        SCORE_Y = Integer.parseInt(game_props.getProperty("score.y"));
+        // Initialise constants to refer back to the game properties
+        CONFIG = config;
+        // Every draw of a frame is queued, then submitted sorted by layer and image so each image is bound once
+        RENDERER = new DrawQueue(renderer);
+        PROFILER = new FrameProfiler(config.getProfilerWindowFrames());
+        UPDATER = new ParallelUpdater(config.getParallelChunkSize());
 
-        HEALTH_FONT = new Font(FONT_FILE, Integer.parseInt(game_props.getProperty("playerHealth.fontSize")));
-        HEALTH_X = Integer.parseInt(game_props.getProperty("playerHealth.x"));
-        HEALTH_Y = Integer.parseInt(game_props.getProperty("playerHealth.y"));
+        // Without a seed in the game properties, each run plays out differently
+        seed = config.hasSeed() ? config.getSeed() : System.nanoTime();
 
-        BOSS_HEALTH_FONT = new Font(FONT_FILE, Integer.parseInt(game_props.getProperty("enemyBossHealth.fontSize")));
-        BOSS_HEALTH_X = Integer.parseInt(game_props.getProperty("enemyBossHealth.x"));
-        BOSS_HEALTH_Y = Integer.parseInt(game_props.getProperty("enemyBossHealth.y"));
-
-        // Initialise options to change colour of Enemy Boss health
-        options = new DrawOptions();
-
-        // Initialise constants to refer back to the game and message properties
-        PROPS = game_props;
-        MESSAGE_PROPS = message_props;
+        // Coins and power-ups are stored as columns, tagged by their index in the store. Every other type of
+        // game object with multiple occurrences is kept sorted by position so collisions are only tested near
+        // the player. A flying platform reaches as far as its half length plus how far it can randomly move in
+        // one frame. These are emptied and filled again each time a level is loaded.
+        collectables = new CollectableStore(new Coin(CONFIG), new DoubleScore(CONFIG), new InvinciblePower(CONFIG));
+        enemyBroadphase = new Broadphase<Enemy>(CONFIG.getEnemy().getRadius());
+        flyingPlatformBroadphase = new Broadphase<FlyingPlatform>(
+                CONFIG.getFlyingPlatform().getHalfLength() + Math.abs(CONFIG.getFlyingPlatform().getRandomSpeed()));
     }
 
     /***
@@ -69,19 +76,37 @@ public class Level {
      * method
      * @param input Input provided by the user
      */
-    public void renderEnvironment(Input input) {
+    public void renderEnvironment(GameInput input) {
+        // Update all game objects for each frame, then draw the frame
+        updateGameObjects(input);
+        drawEnvironment();
+    }
+
+    /***
+     * Method that draws the score, health and all game objects at their current state
+     */
+    public void drawEnvironment() {
         // Display score and health objects
-        SCORE_FONT.drawString(MESSAGE_PROPS.getProperty("score") + score, SCORE_X, SCORE_Y);
-        HEALTH_FONT.drawString(MESSAGE_PROPS.getProperty("health") + Math.round(player.getHealth()*100),
-                HEALTH_X, HEALTH_Y);
+        PROFILER.mark();
+        SCORE_LABEL.setValue(score);
+        SCORE_LABEL.draw(RENDERER);
+        HEALTH_LABEL.setValue(Math.round(player.getHealth()*100));
+        HEALTH_LABEL.draw(RENDERER);
         if (enemyBossExists) {
             // Display Enemy Boss health only if it exists in the level. Display in red.
-            BOSS_HEALTH_FONT.drawString(MESSAGE_PROPS.getProperty("health") + Math.round(enemyBoss.getHealth() * 100),
-                    BOSS_HEALTH_X, BOSS_HEALTH_Y, options);
-            options.setBlendColour(Colour.RED);
+            BOSS_HEALTH_LABEL.setValue(Math.round(enemyBoss.getHealth() * 100));
+            BOSS_HEALTH_LABEL.draw(RENDERER, Colour.RED);
         }
-        // Update all game objects for each frame
-        updateGameObjects(input);
+        PROFILER.lap(FrameProfiler.HUD);
+
+        // Draw all game objects for each frame, then the profiler overlay over them if it is shown, then submit
+        // the whole frame
+        drawGameObjects();
+        PROFILER.drawOverlay(RENDERER, PROFILER_TEXT);
+        RENDERER.flush();
+        PROFILER.setCount(FrameProfiler.DRAWN_COUNT, camera.getDrawnCount());
+        PROFILER.setCount(FrameProfiler.BATCH_COUNT, RENDERER.getTextureBinds());
+        PROFILER.lap(FrameProfiler.DRAW);
     }
 
     /**
@@ -90,34 +115,65 @@ public class Level {
      * @param input Input provided by the user
      * @return boolean Indicates if a level has been selected by the user
      */
-    public boolean setLevel(Input input) {
+    public boolean setLevel(GameInput input) {
         // Determine which level file to read depending on the user input and initialises the game using
-        // the relevant CSV level file. User selects level via number.
+        // the relevant level file, or the binary level compiled from it. User selects level via number.
         if (input.wasPressed(Keys.NUM_1)) {
-            List<String[]> lines = IOUtils.readCsv(PROPS.getProperty("level1File"));
-            initialiseLevel(lines);
+            loadLevel(1);
             return true;
         } else if (input.wasPressed(Keys.NUM_2)) {
-            List<String[]> lines = IOUtils.readCsv(PROPS.getProperty("level2File"));
-            initialiseLevel(lines);
+            loadLevel(2);
             return true;
         } else if (input.wasPressed(Keys.NUM_3)) {
-            List<String[]> lines = IOUtils.readCsv(PROPS.getProperty("level3File"));
-            initialiseLevel(lines);
+            loadLevel(3);
             return true;
         }
         return false;
     }
 
+    /**
+     * Method that reads the level file of the given level and populates the game environment with the relevant
+     * game objects. Unless streaming, the level is read from its cached template, and entities from the previous
+     * level are respawned rather than created again.
+     * @param levelNumber Number of the level to load, starting from 1
+     */
+    public void loadLevel(int levelNumber) {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        if (levelReader != null) {
+            levelReader.close();
+        }
+        // A streamed level is read straight from its file, so the whole level is never held in memory
+        String levelFile = CONFIG.getLevelFile(levelNumber);
+        this.levelNumber = levelNumber;
+        // Each level has its own sequence of random numbers, restarted whenever the level is loaded
+        RANDOM.setSeed(GameRandom.mix(seed + levelNumber));
+        levelReader = CONFIG.isStreaming() ? IOUtils.openLevel(levelFile)
+                : LevelTemplateCache.get(levelFile).openReader();
+        rowPending = false;
+        initialiseLevel();
+
+        if (event.shouldCommit()) {
+            event.level = levelNumber;
+            event.levelFile = levelFile;
+            event.streaming = CONFIG.isStreaming();
+            event.gameObjects = 2 + enemyBroadphase.size() + collectables.size() + flyingPlatformBroadphase.size() +
+                    (endFlagExists ? 1 : 0) + (enemyBossExists ? 1 : 0);
+            event.commit();
+        }
+    }
+
     /**
      * Method that initialises all level properties, sets the borders and populates the game environment with
-     * entities from the CSV level file
-     * @param lines List of lines read from the CSV level file
+     * entities from the level file. When streaming, only the entities up to a distance ahead of the camera's view
+     * are created, and the rest are created as the camera advances.
      */
-    private void initialiseLevel(List<String[]> lines) {
+    private void initialiseLevel() {
         // Initialise score value and populate game environment with entities
         score = 0;
-        populateGameObjects(lines);
+        populateGameObjects();
+        streamGameObjects(CONFIG.isStreaming() ? camera.getViewMaxX() + CONFIG.getStreamAhead()
+                : Double.POSITIVE_INFINITY);
     }
 
     /**
@@ -130,87 +186,342 @@ public class Level {
     }
 
     /**
-     * Method that updates the game objects each frame, when the game is running.
+     * Method that gets and returns the current score
+     * @return int Returns the current score
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Method that updates the game objects by one simulation tick, when the game is running.
      * @param input Input provided by the user
      */
-    public void updateGameObjects(Input input) {
-        // Calls update methods for all game objects in level
-        platform.updateWithTarget(input, player);
+    public void updateGameObjects(GameInput input) {
+        // Store where each moving game object was at the end of the last tick, so frames can be drawn between ticks.
+        // Each phase of the tick is timed, with saving positions and streaming counted against the platform.
+        PROFILER.mark();
+        savePositions();
 
-        for(Enemy e: enemies) {
-            e.updateWithTarget(input, player);
+        // Scroll the camera with the player first, then call update methods for all game objects in level. After
+        // each type of game object has moved, only the ones near the player are tested for collisions. Enemies and
+        // flying platforms only move themselves, so they are moved in parallel chunks when there are enough of
+        // them, and then affect the player one at a time in sorted order on this thread.
+        camera.update(input, player);
+        if (levelReader != null) {
+            streamGameObjects(camera.getViewMaxX() + CONFIG.getStreamAhead());
+        }
+        if (CONFIG.isStreaming()) {
+            dropGameObjects(camera.getViewMinX() - CONFIG.getStreamBehind());
         }
+        PROFILER.lap(FrameProfiler.PLATFORM);
 
-        for(Coin c: coins) {
-            setScore(c.updateWithTarget(input, player));
+        UPDATER.update(enemyBroadphase);
+        collideNearPlayer(enemyBroadphase);
+        for(int i = enemyBroadphase.getQueryStart(); i < enemyBroadphase.getQueryEnd(); i++) {
+            if (enemyBroadphase.isHit(i)) {
+                enemyBroadphase.get(i).collideWithTarget(player);
+            }
         }
+        PROFILER.lap(FrameProfiler.ENEMIES);
+
+        // Coins are collected before power-ups, so a double score collected this frame doubles coins from the
+        // next frame onwards
+        collectables.update(camera, CONFIG.isStreaming() ? camera.getViewMinX() - CONFIG.getStreamBehind()
+                : Double.NEGATIVE_INFINITY);
+        setScore(collectables.collideWithTarget(player));
+        PROFILER.lap(FrameProfiler.COLLECTABLES);
 
-        for(DoubleScore d: doubleScores) {
-            d.updateWithTarget(input, player);
+        UPDATER.update(flyingPlatformBroadphase);
+        updateFlyingPlatformCollisions();
+        PROFILER.lap(FrameProfiler.FLYING_PLATFORMS);
+
+        player.update(input, enemyBoss, enemyBossExists);
+        PROFILER.lap(FrameProfiler.PLAYER);
+        // The end flag may not have been streamed in yet
+        if (endFlagExists) {
+            endFlag.updateWithTarget(player);
         }
+        PROFILER.lap(FrameProfiler.END_FLAG);
 
-        for(InvinciblePower i: invinciblePowers) {
-            i.updateWithTarget(input, player);
+        // Only update the Enemy Boss entity if it exists in the level.
+        if (enemyBossExists) {
+            enemyBoss.updateWithTarget(player);
         }
+        PROFILER.lap(FrameProfiler.BOSS);
 
-        for(FlyingPlatform f: flyingPlatforms) {
-            f.updateWithTarget(input, player);
+        PROFILER.setCount(FrameProfiler.ENEMY_COUNT, enemyBroadphase.size());
+        PROFILER.setCount(FrameProfiler.COLLECTABLE_COUNT, collectables.size());
+        PROFILER.setCount(FrameProfiler.FLYING_PLATFORM_COUNT, flyingPlatformBroadphase.size());
+        PROFILER.setCount(FrameProfiler.FIREBALL_COUNT, player.getFireballCount() +
+                (enemyBossExists ? enemyBoss.getFireballCount() : 0));
+    }
+
+    /**
+     * Method that restores the sorted order of the given broadphase and finds the entities within reach of the
+     * player
+     * @param broadphase Broadphase of one type of game object
+     */
+    private void queryNearPlayer(Broadphase<?> broadphase) {
+        broadphase.refresh();
+        broadphase.query(player.getX() - player.getRADIUS(), player.getX() + player.getRADIUS());
+    }
+
+    /**
+     * Method that finds the entities within reach of the player and tests them all for collisions in one batch
+     * @param broadphase Broadphase of one type of game object
+     */
+    private void collideNearPlayer(Broadphase<?> broadphase) {
+        queryNearPlayer(broadphase);
+        broadphase.collide(player);
+    }
+
+    /**
+     * Method that lets the flying platforms near the player, and any platform the player is standing on, check
+     * if the player lands on or walks off them
+     */
+    private void updateFlyingPlatformCollisions() {
+        queryNearPlayer(flyingPlatformBroadphase);
+        for(int i = flyingPlatformBroadphase.getQueryStart(); i < flyingPlatformBroadphase.getQueryEnd(); i++) {
+            FlyingPlatform f = flyingPlatformBroadphase.get(i);
+            if (f.collideWithTarget(player) && !occupiedPlatforms.contains(f)) {
+                occupiedPlatforms.add(f);
+            }
         }
 
-        player.update(input, enemyBoss, enemyBossExists);
-        endFlag.updateWithTarget(input, player);
+        // A platform the player stood on must see the player leave it, even once the player is out of reach.
+        // Checking a platform a second time in the same frame has no effect.
+        for(int i = occupiedPlatforms.size() - 1; i >= 0; i--) {
+            if (!occupiedPlatforms.get(i).collideWithTarget(player)) {
+                occupiedPlatforms.remove(i);
+            }
+        }
+    }
 
-        // Only update the Enemy Boss entity if it exists in the level.
+    /**
+     * Method that draws the game objects at their current position, each on its layer of the draw queue. Game
+     * objects out of the camera's view are culled.
+     */
+    private void drawGameObjects() {
+        camera.resetCounts();
+        RENDERER.setLayer(DrawQueue.PLATFORM_LAYER);
+        platform.drawEntity(RENDERER, camera);
+
+        RENDERER.setLayer(DrawQueue.ENTITY_LAYER);
+        for(int i = 0; i < enemyBroadphase.size(); i++) {
+            enemyBroadphase.get(i).drawEntity(RENDERER, camera);
+        }
+
+        collectables.draw(RENDERER, camera);
+
+        for(int i = 0; i < flyingPlatformBroadphase.size(); i++) {
+            flyingPlatformBroadphase.get(i).drawEntity(RENDERER, camera);
+        }
+
+        RENDERER.setLayer(DrawQueue.PLAYER_LAYER);
+        player.drawEntity(RENDERER, camera);
+
+        RENDERER.setLayer(DrawQueue.BOSS_LAYER);
+        if (endFlagExists) {
+            endFlag.drawEntity(RENDERER, camera);
+        }
+        if (enemyBossExists) {
+            enemyBoss.drawEntity(RENDERER, camera);
+        }
+
+        RENDERER.setLayer(DrawQueue.FIREBALL_LAYER);
+        player.drawFireballs(RENDERER, camera);
+        if (enemyBossExists) {
+            enemyBoss.drawFireballs(RENDERER, camera);
+        }
+    }
+
+
+    /**
+     * Method that stores the position of every moving game object as its position at the previous tick. The
+     * platform and End Flag never move, and coins and power-ups store their own.
+     */
+    private void savePositions() {
+        player.savePosition();
+        UPDATER.savePositions(enemyBroadphase);
+        UPDATER.savePositions(flyingPlatformBroadphase);
         if (enemyBossExists) {
-            enemyBoss.updateWithTarget(input, player, PROPS);
+            enemyBoss.savePosition();
         }
     }
 
+    /**
+     * Method that sets how far the next frame drawn is between the last two simulation ticks, so game objects are
+     * drawn part way between their last two positions
+     * @param alpha Fraction of a tick since the last tick, from 0 to 1
+     */
+    public void setInterpolation(double alpha) {
+        camera.setAlpha(alpha);
+    }
+
+    /**
+     * Method that sets the seed the random numbers of each level are drawn from, taking effect when the next level
+     * is loaded
+     * @param seed Seed of the game
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Method that gets and returns the seed the random numbers of each level are drawn from
+     * @return long Returns the seed of the game
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Method that gets and returns the number of the level last loaded
+     * @return int Returns the level number, starting from 1
+     */
+    public int getLevelNumber() {
+        return this.levelNumber;
+    }
 
     /**
-     * Method that creates the game objects using the lines read from the CSV file.
-     * @param lines List of lines read from the CSV level file
+     * Method that gets and returns the profiler timing each tick and frame of the level
+     * @return FrameProfiler Returns the profiler of the level
      */
-    private void populateGameObjects(List<String[]> lines) {
-        // Create ArrayLists for all entities with multiple occurrences in the level
-        coins = new ArrayList<Coin>();
-        enemies = new ArrayList<Enemy>();
-        doubleScores = new ArrayList<DoubleScore>();
-        invinciblePowers = new ArrayList<InvinciblePower>();
-        flyingPlatforms = new ArrayList<FlyingPlatform>();
-
-        // Iterate through list of CSV level file lines and instantiate new entities for each line
-        // For entities with multiple occurrences, add these objects to the ArrayLists
-        for(String[] lineElement: lines) {
-            int x = Integer.parseInt(lineElement[1]);
-            int y = Integer.parseInt(lineElement[2]);
-
-            if (lineElement[0].equals("PLAYER")) {
-                player = new Player(x, y, this.PROPS);
-            } else if (lineElement[0].equals("PLATFORM")) {
-                platform = new Platform(x, y, this.PROPS);
-            } else if (lineElement[0].equals("ENEMY")) {
-                Enemy enemy = new Enemy(x, y, PROPS);
-                enemies.add(enemy);
-            } else if (lineElement[0].equals("COIN")) {
-                Coin coin = new Coin(x, y, PROPS);
-                coins.add(coin);
-            } else if (lineElement[0].equals("END_FLAG")) {
-                endFlag = new EndFlag(x, y, PROPS);
-            } else if (lineElement[0].equals("DOUBLE_SCORE")) {
-                DoubleScore doubleScore = new DoubleScore(x, y, PROPS);
-                doubleScores.add(doubleScore);
-            } else if (lineElement[0].equals("INVINCIBLE_POWER")) {
-                InvinciblePower invinciblePower = new InvinciblePower(x, y, PROPS);
-                invinciblePowers.add(invinciblePower);
-            } else if (lineElement[0].equals("ENEMY_BOSS")) {
-                enemyBoss = new EnemyBoss(x, y, PROPS);
-                // If an Enemy Boss entity is created, indicate that it exists
-                enemyBossExists = true;
-            } else if (lineElement[0].equals("FLYING_PLATFORM")) {
-                FlyingPlatform flyingPlatform = new FlyingPlatform(x, y, PROPS);
-                flyingPlatforms.add(flyingPlatform);
+    public FrameProfiler getProfiler() {
+        return this.PROFILER;
+    }
+
+    /**
+     * Method that gets and returns the camera viewing the level
+     * @return Camera Returns the camera of the current level
+     */
+    public Camera getCamera() {
+        return this.camera;
+    }
+
+    /**
+     * Method that creates the camera and empties the collections the game objects of the level are added to,
+     * keeping the entities of the previous level to be respawned
+     */
+    private void populateGameObjects() {
+        collectables.clear();
+        enemyBroadphase.clear(spareEnemies);
+        flyingPlatformBroadphase.clear(spareFlyingPlatforms);
+        occupiedPlatforms.clear();
+        enemyBossExists = false;
+        endFlagExists = false;
+
+        // The camera starts at the left border of the game world and can scroll until the right edge of the game
+        // world reaches the right edge of the window. The game world is as wide as the platform image, or wider
+        // if the level reaches further, leaving a window's width past the rightmost game object so the player can
+        // always reach it. The platform is repeated to cover a wider game world.
+        double worldWidth = Math.max(RENDERER.getImageWidth(CONFIG.getPlatform().getImage()),
+                (double) levelReader.getMaxX() + CONFIG.getWindowWidth());
+        camera = new Camera(0, worldWidth - CONFIG.getWindowWidth(), CONFIG);
+    }
+
+    /**
+     * Method that reads game objects from the level file and creates them, until it reads one beyond the given
+     * horizontal position. That game object is kept to be created once the camera gets close enough. The player
+     * and platform are always created straight away.
+     * @param maxX Horizontal position beyond which game objects are not created yet
+     */
+    private void streamGameObjects(double maxX) {
+        while (rowPending || levelReader.next()) {
+            String type = levelReader.getType();
+            if (levelReader.getX() > maxX && !type.equals("PLAYER") && !type.equals("PLATFORM")) {
+                rowPending = true;
+                return;
+            }
+            rowPending = false;
+            createGameObject(type, levelReader.getX(), levelReader.getY());
+        }
+
+        // Every game object has been created, so the level file is no longer needed
+        levelReader.close();
+        levelReader = null;
+    }
+
+    /**
+     * Method that drops the enemies and flying platforms left behind by the camera, so only a window of the level
+     * around the player is kept in memory. Coins and power-ups are dropped by their store as it is updated.
+     * Dropped game objects are not created again if the player goes back.
+     * @param minX Horizontal position left of which game objects are dropped
+     */
+    private void dropGameObjects(double minX) {
+        enemyBroadphase.removeBefore(minX, spareEnemies);
+        if (flyingPlatformBroadphase.removeBefore(minX, spareFlyingPlatforms) > 0) {
+            for(int i = occupiedPlatforms.size() - 1; i >= 0; i--) {
+                if (occupiedPlatforms.get(i).getX() < minX) {
+                    occupiedPlatforms.remove(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that creates one game object read from the level file and adds it to the level
+     * @param type Type of the game object (e.g. "COIN")
+     * @param x Horizontal position of the game object in the game environment
+     * @param y Vertical position of the game object in the game environment
+     */
+    private void createGameObject(String type, int x, int y) {
+        // Entities left from a previous level are respawned at the new position rather than created again
+        if (type.equals("PLAYER")) {
+            if (player == null) {
+                player = new Player(x, y, CONFIG);
+            } else {
+                player.respawn(x, y);
+            }
+            // Fireballs that fly past either edge of the game world can never hit anything, so are despawned
+            player.setWorldBounds(camera.getWorldMinX(), camera.getWorldMaxX());
+        } else if (type.equals("PLATFORM")) {
+            if (platform == null) {
+                platform = new Platform(x, y, CONFIG);
+            } else {
+                platform.respawn(x, y);
+            }
+        } else if (type.equals("ENEMY")) {
+            Enemy enemy;
+            if (spareEnemies.isEmpty()) {
+                enemy = new Enemy(x, y, CONFIG);
+            } else {
+                enemy = spareEnemies.remove(spareEnemies.size() - 1);
+                enemy.respawn(x, y);
+            }
+            enemyBroadphase.add(enemy);
+        } else if (type.equals("COIN")) {
+            collectables.add(COIN, x, y);
+        } else if (type.equals("END_FLAG")) {
+            if (endFlag == null) {
+                endFlag = new EndFlag(x, y, CONFIG);
+            } else {
+                endFlag.respawn(x, y);
+            }
+            endFlagExists = true;
+        } else if (type.equals("DOUBLE_SCORE")) {
+            collectables.add(DOUBLE_SCORE, x, y);
+        } else if (type.equals("INVINCIBLE_POWER")) {
+            collectables.add(INVINCIBLE_POWER, x, y);
+        } else if (type.equals("ENEMY_BOSS")) {
+            if (enemyBoss == null) {
+                enemyBoss = new EnemyBoss(x, y, CONFIG, RANDOM);
+            } else {
+                enemyBoss.respawn(x, y);
+            }
+            enemyBoss.setWorldBounds(camera.getWorldMinX(), camera.getWorldMaxX());
+            // If an Enemy Boss entity is created, indicate that it exists
+            enemyBossExists = true;
+        } else if (type.equals("FLYING_PLATFORM")) {
+            FlyingPlatform flyingPlatform;
+            if (spareFlyingPlatforms.isEmpty()) {
+                flyingPlatform = new FlyingPlatform(x, y, CONFIG);
+            } else {
+                flyingPlatform = spareFlyingPlatforms.remove(spareFlyingPlatforms.size() - 1);
+                flyingPlatform.respawn(x, y);
             }
+            flyingPlatformBroadphase.add(flyingPlatform);
         }
     }
 
@@ -231,14 +542,16 @@ public class Level {
         // If there is an Enemy Boss, the player must defeat it before they can cross the End Flag and win the game
         if (enemyBossExists) {
             if (enemyBoss.isDead()) {
-                return endFlag.isCollided();
+                return endFlagExists && endFlag.isCollided();
             } else {
                 // If the boss is still alive, the collision is reset and the game is not won
-                endFlag.resetCollision();
+                if (endFlagExists) {
+                    endFlag.resetCollision();
+                }
                 return false;
             }
         } else {
-            return endFlag.isCollided();
+            return endFlagExists && endFlag.isCollided();
         }
     }
 
@@ -0,0 +1,128 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Class that compiles CSV level files into the binary level format read by BinaryLevelReader. Each binary file is
+ * written next to its CSV file, and is preferred over it when loading the level as long as it is newer.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class LevelCompiler {
+
+    /**
+     * The entry point for compiling level files.
+     * Usage: LevelCompiler [--gzip] CSV_FILE...
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        boolean gzip = args.length > 0 && args[0].equals("--gzip");
+        int first = gzip ? 1 : 0;
+        if (args.length == first) {
+            System.err.println("Usage: LevelCompiler [--gzip] CSV_FILE...");
+            System.exit(-1);
+        }
+
+        for (int i = first; i < args.length; i++) {
+            String binaryFile = IOUtils.toBinaryLevelFile(args[i]) + (gzip ? ".gz" : "");
+            try {
+                int count = compile(args[i], binaryFile, gzip);
+                System.out.printf("%s: %d game objects written to %s%n", args[i], count, binaryFile);
+            } catch (IOException | IllegalArgumentException ex) {
+                ex.printStackTrace();
+                System.exit(-1);
+            }
+        }
+    }
+
+    /***
+     * Method that compiles one CSV level file into a binary level file. The player and platform are written
+     * first, then the other game objects sorted from left to right, keeping the order of the CSV file for game
+     * objects at the same horizontal position.
+     * @param csvFile Path to the CSV level file
+     * @param binaryFile Path to write the binary level file to
+     * @param gzip Whether to compress the binary level file
+     * @return int Returns the number of game objects written
+     * @throws IOException If either file cannot be read or written
+     * @throws IllegalArgumentException If the CSV level file holds an unknown type of game object
+     */
+    public static int compile(String csvFile, String binaryFile, boolean gzip) throws IOException {
+        // Read every game object into columns, counting each type
+        int[] types = new int[64], xs = new int[64], ys = new int[64];
+        int[] counts = new int[BinaryLevelReader.TYPES.length];
+        int count = 0;
+        LevelReader reader = new CsvLevelReader(csvFile);
+        while (reader.next()) {
+            if (count == types.length) {
+                types = Arrays.copyOf(types, 2 * count);
+                xs = Arrays.copyOf(xs, 2 * count);
+                ys = Arrays.copyOf(ys, 2 * count);
+            }
+            types[count] = BinaryLevelReader.typeIndex(reader.getType());
+            xs[count] = reader.getX();
+            ys[count] = reader.getY();
+            counts[types[count]]++;
+            count++;
+        }
+        reader.close();
+
+        // Order the records with the player and platform first, then the rest by position. Each sort key holds the
+        // position above the record's index, so records at the same position keep the order of the CSV file.
+        int[] order = new int[count];
+        long[] keys = new long[count];
+        int headerCount = 0, keyCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (isHeaderType(types[i])) {
+                order[headerCount++] = i;
+            } else {
+                keys[keyCount++] = ((long) xs[i] << 32) | i;
+            }
+        }
+        Arrays.sort(keys, 0, keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            order[headerCount + i] = (int) keys[i];
+        }
+
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+
+        OutputStream file = new BufferedOutputStream(new FileOutputStream(binaryFile));
+        try (DataOutputStream out = new DataOutputStream(gzip ? new GZIPOutputStream(file) : file)) {
+            out.writeInt(BinaryLevelReader.MAGIC);
+            out.writeInt(BinaryLevelReader.VERSION);
+            out.writeInt(count);
+            for (int typeCount : counts) {
+                out.writeInt(typeCount);
+            }
+            out.writeInt(minX);
+            out.writeInt(maxX);
+            out.writeInt(minY);
+            out.writeInt(maxY);
+            for (int i : order) {
+                out.writeInt(types[i]);
+                out.writeInt(xs[i]);
+                out.writeInt(ys[i]);
+            }
+        }
+        return count;
+    }
+
+    /***
+     * Method that determines if a type of game object must come before all others in a level file
+     * @param type Index of the type of game object
+     * @return boolean Returns if the type is the player or platform
+     */
+    private static boolean isHeaderType(int type) {
+        return BinaryLevelReader.TYPES[type].equals("PLAYER") || BinaryLevelReader.TYPES[type].equals("PLATFORM");
+    }
+}
@@ -0,0 +1,187 @@
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Class that generates level files of any size, for testing how the game copes with far more game objects than
+ * the levels it ships with. Game objects are scattered along the level at the heights used by the real levels,
+ * and the same seed always generates the same level. The file is written in the CSV level format with the player
+ * and platform first and the rest sorted from left to right, so it can be streamed or compiled as it is. The
+ * game sizes its world from the rightmost game object, so the end flag can be reached however long the level is.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class LevelGenerator {
+    private static final String USAGE = "Usage: LevelGenerator CSV_FILE [--length PIXELS] [--seed SEED] " +
+            "[--TYPE COUNT] [--TYPE-density PER_1000_PIXELS] [--boss] [--compile]\n" +
+            "  TYPE is one of coin, enemy, flying-platform, double-score, invincible-power\n" +
+            "  The end flag stands at PIXELS (default 10000), and the game world is made wide enough to reach it";
+    private static final int PLAYER_X = 100, PLAYER_Y = 687, PLATFORM_X = 3000, PLATFORM_Y = 745;
+    private static final int DEFAULT_LENGTH = 10000, START_CLEARANCE = 300, END_CLEARANCE = 300;
+    // Types that can be scattered along the level, the option naming each one, and the heights each is placed at
+    private static final String[] TYPES = {"COIN", "ENEMY", "FLYING_PLATFORM", "DOUBLE_SCORE", "INVINCIBLE_POWER"};
+    private static final String[] OPTIONS = {"coin", "enemy", "flying-platform", "double-score", "invincible-power"};
+    private static final int[][] HEIGHTS = {{305, 505, 690}, {695}, {355, 555}, {305, 690}, {305, 505}};
+    private static final int ENEMY_BOSS_Y = 680, END_FLAG_Y = 670;
+
+    /**
+     * The entry point for generating a level file.
+     * Usage: LevelGenerator CSV_FILE [--length PIXELS] [--seed SEED] [--TYPE COUNT]
+     * [--TYPE-density PER_1000_PIXELS] [--boss] [--compile]
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args[0].startsWith("--")) {
+            System.err.println(USAGE);
+            System.exit(-1);
+        }
+        String csvFile = args[0];
+        int length = DEFAULT_LENGTH;
+        long seed = 1;
+        boolean boss = false, compile = false;
+        long[] counts = new long[TYPES.length];
+        double[] densities = new double[TYPES.length];
+        Arrays.fill(densities, -1);
+
+        try {
+            for (int i = 1; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--boss")) {
+                    boss = true;
+                } else if (option.equals("--compile")) {
+                    compile = true;
+                } else if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                } else if (option.equals("--length")) {
+                    length = Integer.parseInt(args[++i]);
+                } else if (option.equals("--seed")) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (option.endsWith("-density")) {
+                    densities[optionIndex(option.substring(2, option.length() - "-density".length()))] =
+                            Double.parseDouble(args[++i]);
+                } else {
+                    counts[optionIndex(option.substring(2))] = Long.parseLong(args[++i]);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(-1);
+        }
+
+        // A density replaces the count of its type, scaled to the length of the level
+        for (int i = 0; i < TYPES.length; i++) {
+            if (densities[i] >= 0) {
+                counts[i] = Math.round(densities[i] * length / 1000.0);
+            }
+        }
+
+        try {
+            long start = System.nanoTime();
+            int count = generate(csvFile, length, seed, counts, boss);
+            System.out.printf("%s: %d game objects over %d pixels generated with seed %d in %.1f ms%n", csvFile,
+                    count, length, seed, (System.nanoTime() - start) / 1_000_000.0);
+            if (compile) {
+                String binaryFile = IOUtils.toBinaryLevelFile(csvFile);
+                LevelCompiler.compile(csvFile, binaryFile, false);
+                System.out.printf("%s: compiled to %s%n", csvFile, binaryFile);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    /***
+     * Method that finds the index of a type of game object from the name of its option
+     * @param option Name of the option without its leading dashes (e.g. "flying-platform")
+     * @return int Returns the index of the type
+     * @throws IllegalArgumentException If the option does not name a type
+     */
+    private static int optionIndex(String option) {
+        for (int i = 0; i < OPTIONS.length; i++) {
+            if (OPTIONS[i].equals(option)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown option --" + option);
+    }
+
+    /***
+     * Method that generates a level file. The player starts at the left with the platform beneath them, the
+     * given number of each type of game object is scattered between the start and the end of the level, and the
+     * end flag stands at the end, guarded by the enemy boss if there is one.
+     * @param csvFile Path to write the level file to
+     * @param length Horizontal position of the end flag
+     * @param seed Seed the positions of the game objects are drawn from
+     * @param counts Number of each scattered type of game object, in the order of the types table
+     * @param boss Whether to place an enemy boss before the end flag
+     * @return int Returns the number of game objects written
+     * @throws IOException If the level file cannot be written
+     * @throws IllegalArgumentException If the level is too short, a count is negative or there are too many
+     */
+    public static int generate(String csvFile, int length, long seed, long[] counts, boolean boss)
+            throws IOException {
+        int minX = PLAYER_X + START_CLEARANCE, maxX = length - END_CLEARANCE;
+        if (maxX <= minX) {
+            throw new IllegalArgumentException("Level length must be more than " + (minX + END_CLEARANCE));
+        }
+        long total = 0;
+        for (long count : counts) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Game object counts must not be negative");
+            }
+            total += count;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many game objects to generate: " + total);
+        }
+
+        // Each game object is packed into one sort key, with its position above its height and type, so sorting
+        // the keys sorts the game objects from left to right
+        GameRandom random = new GameRandom(seed);
+        long[] keys = new long[(int) total];
+        int count = 0;
+        for (int type = 0; type < TYPES.length; type++) {
+            for (long i = 0; i < counts[type]; i++) {
+                int x = minX + random.nextInt(maxX - minX + 1);
+                int y = HEIGHTS[type][random.nextInt(HEIGHTS[type].length)];
+                keys[count++] = ((long) x << 32) | ((long) y << 8) | type;
+            }
+        }
+        Arrays.sort(keys);
+
+        try (Writer out = new BufferedWriter(new FileWriter(csvFile), 1 << 16)) {
+            writeRow(out, "PLAYER", PLAYER_X, PLAYER_Y);
+            writeRow(out, "PLATFORM", PLATFORM_X, PLATFORM_Y);
+            for (long key : keys) {
+                writeRow(out, TYPES[(int) (key & 0xFF)], (int) (key >>> 32), (int) (key >>> 8) & 0xFFFFFF);
+            }
+            if (boss) {
+                writeRow(out, "ENEMY_BOSS", length - END_CLEARANCE / 3, ENEMY_BOSS_Y);
+            }
+            writeRow(out, "END_FLAG", length, END_FLAG_Y);
+        }
+        return count + (boss ? 4 : 3);
+    }
+
+    /***
+     * Method that writes one game object as a row of the level file
+     * @param out Writer of the level file
+     * @param type Type of the game object (e.g. "COIN")
+     * @param x Horizontal position of the game object
+     * @param y Vertical position of the game object
+     * @throws IOException If the row cannot be written
+     */
+    private static void writeRow(Writer out, String type, int x, int y) throws IOException {
+        out.write(type);
+        out.write(',');
+        out.write(Integer.toString(x));
+        out.write(',');
+        out.write(Integer.toString(y));
+        out.write('\n');
+    }
+}
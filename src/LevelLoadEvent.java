@@ -0,0 +1,32 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Class for the Java Flight Recorder event of loading a level. Nothing is recorded unless a flight recording is
+ * running.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+@Name("shadowmario.LevelLoad")
+@Label("Level Load")
+@Category("Shadow Mario")
+@Description("Reading a level and populating it with its game objects")
+public class LevelLoadEvent extends Event {
+    @Label("Level")
+    int level;
+
+    @Label("Level File")
+    String levelFile;
+
+    @Label("Streaming")
+    @Description("Whether the level is streamed, in which case only game objects near the start are created")
+    boolean streaming;
+
+    @Label("Game Objects")
+    @Description("Game objects created by the load")
+    int gameObjects;
+}
@@ -0,0 +1,44 @@
+/**
+ * Interface for reading the game objects of a level file one at a time, so a level can be built as the player
+ * advances rather than all at once. Game objects after the player and platform are listed from left to right.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public interface LevelReader {
+    /***
+     * Method that reads the next game object of the level
+     * @return boolean Returns if a game object was read, or false once the end of the level has been reached
+     */
+    public boolean next();
+
+    /***
+     * Method that gets and returns the type of the game object last read (e.g. "COIN")
+     * @return String Returns the type of the game object
+     */
+    public String getType();
+
+    /***
+     * Method that gets and returns the horizontal position of the game object last read
+     * @return int Returns the horizontal position of the game object
+     */
+    public int getX();
+
+    /***
+     * Method that gets and returns the vertical position of the game object last read
+     * @return int Returns the vertical position of the game object
+     */
+    public int getY();
+
+    /***
+     * Method that gets and returns the rightmost horizontal position of any game object in the level, known before
+     * the game objects are read so the size of the game world can be set up front
+     * @return int Returns the largest horizontal position
+     */
+    public int getMaxX();
+
+    /***
+     * Method that closes the level file once it is no longer needed
+     */
+    public void close();
+}
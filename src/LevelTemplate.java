@@ -0,0 +1,116 @@
+import java.util.Arrays;
+
+/**
+ * Class that holds the parsed game objects of one level file in memory, as columns of type, horizontal position
+ * and vertical position, so the level can be started again without reading or parsing the file. Each time the
+ * level starts, a reader over the template gives back the game objects in the order they were read.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class LevelTemplate {
+    private final int[] TYPES, XS, YS;
+    private final int MAX_X;
+
+    /**
+     * Constructor method for level template class to read every game object of a level file
+     * @param reader Reader of the level file, which is closed once every game object has been read
+     * @throws IllegalArgumentException If the level file holds an unknown type of game object
+     */
+    public LevelTemplate(LevelReader reader) {
+        int[] types = new int[64], xs = new int[64], ys = new int[64];
+        int count = 0, maxX = 0;
+        while (reader.next()) {
+            if (count == types.length) {
+                types = Arrays.copyOf(types, 2 * count);
+                xs = Arrays.copyOf(xs, 2 * count);
+                ys = Arrays.copyOf(ys, 2 * count);
+            }
+            // Types are stored as their index in the binary level format's type table
+            types[count] = BinaryLevelReader.typeIndex(reader.getType());
+            xs[count] = reader.getX();
+            ys[count] = reader.getY();
+            maxX = Math.max(maxX, xs[count]);
+            count++;
+        }
+        reader.close();
+
+        this.TYPES = Arrays.copyOf(types, count);
+        this.XS = Arrays.copyOf(xs, count);
+        this.YS = Arrays.copyOf(ys, count);
+        this.MAX_X = maxX;
+    }
+
+    /***
+     * Method that opens a reader over the game objects of the template, starting from the first one
+     * @return LevelReader Returns a new reader of the template
+     */
+    public LevelReader openReader() {
+        return new TemplateReader();
+    }
+
+    /***
+     * Method that gets and returns the number of game objects in the template
+     * @return int Returns the number of game objects
+     */
+    public int size() {
+        return TYPES.length;
+    }
+
+    /**
+     * Class that reads the game objects of a level template one at a time.
+     */
+    private class TemplateReader implements LevelReader {
+        private int index = -1;
+
+        /***
+         * Method that moves on to the next game object of the template
+         * @return boolean Returns if a game object was read, or false once every game object has been read
+         */
+        public boolean next() {
+            if (index + 1 >= TYPES.length) {
+                return false;
+            }
+            index++;
+            return true;
+        }
+
+        /***
+         * Method that gets and returns the type of the game object last read (e.g. "COIN")
+         * @return String Returns the type of the game object
+         */
+        public String getType() {
+            return BinaryLevelReader.TYPES[TYPES[index]];
+        }
+
+        /***
+         * Method that gets and returns the horizontal position of the game object last read
+         * @return int Returns the horizontal position of the game object
+         */
+        public int getX() {
+            return XS[index];
+        }
+
+        /***
+         * Method that gets and returns the vertical position of the game object last read
+         * @return int Returns the vertical position of the game object
+         */
+        public int getY() {
+            return YS[index];
+        }
+
+        /***
+         * Method that gets and returns the rightmost horizontal position of any game object in the template
+         * @return int Returns the largest horizontal position
+         */
+        public int getMaxX() {
+            return MAX_X;
+        }
+
+        /***
+         * Method that closes the reader. The template stays in memory, so there is nothing to release.
+         */
+        public void close() {
+        }
+    }
+}
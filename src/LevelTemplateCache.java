@@ -0,0 +1,70 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Class that parses each level file once and keeps its template in memory, so a level can be started or
+ * restarted without touching the disk. Level files can be prefetched on a background thread while the title
+ * screen is shown. A level file changed on disk is not read again until the game restarts.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class LevelTemplateCache {
+    private static final ConcurrentHashMap<String, FutureTask<LevelTemplate>> TEMPLATES =
+            new ConcurrentHashMap<String, FutureTask<LevelTemplate>>();
+
+    /***
+     * Method that starts parsing every level file of the game on a background thread
+     * @param CONFIG Parsed game properties to access the level files
+     */
+    public static void prefetch(GameConfig CONFIG) {
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            // The worker must not keep the game running once the window has closed
+            Thread thread = new Thread(runnable, "level-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 1; i <= CONFIG.getLevelCount(); i++) {
+            worker.execute(getTask(CONFIG.getLevelFile(i)));
+        }
+        worker.shutdown();
+    }
+
+    /***
+     * Method that gets and returns the template of a level file, parsing it now unless it has already been
+     * parsed, or waiting for the background thread if it is being prefetched
+     * @param levelFile Path to the CSV level file
+     * @return LevelTemplate Returns the parsed template of the level
+     */
+    public static LevelTemplate get(String levelFile) {
+        FutureTask<LevelTemplate> task = getTask(levelFile);
+        // Running a task that has already run or is running elsewhere does nothing
+        task.run();
+        try {
+            return task.get();
+        } catch (ExecutionException ex) {
+            ex.getCause().printStackTrace();
+            System.exit(-1);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        return null;
+    }
+
+    /***
+     * Method that gets and returns the task parsing a level file, creating it the first time the file is
+     * requested
+     * @param levelFile Path to the CSV level file
+     * @return FutureTask Returns the task parsing the level file
+     */
+    private static FutureTask<LevelTemplate> getTask(String levelFile) {
+        return TEMPLATES.computeIfAbsent(levelFile,
+                file -> new FutureTask<LevelTemplate>(() -> new LevelTemplate(IOUtils.openLevel(file))));
+    }
+}
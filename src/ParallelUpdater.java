@@ -0,0 +1,116 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that updates every entity of one type in chunks run as fork-join tasks, for levels with very many enemies
+ * and flying platforms. Only work that reads and writes a single entity is split this way, such as moving it or
+ * saving its position. Anything that affects the player or the score is left to the game thread afterwards, in
+ * the sorted order of the broadphase, so a tick plays out exactly the same as updating every entity in turn.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class ParallelUpdater {
+    private static final int UPDATE = 0, SAVE_POSITION = 1;
+    private final ForkJoinPool POOL;
+    private final int CHUNK_SIZE;
+
+    /**
+     * Constructor method for parallel updater class to initialise object when instantiated
+     * @param CHUNK_SIZE Number of entities updated by each task, or zero to update every entity on the calling
+     *                   thread
+     */
+    public ParallelUpdater(int CHUNK_SIZE) {
+        this.POOL = ForkJoinPool.commonPool();
+        this.CHUNK_SIZE = CHUNK_SIZE;
+    }
+
+    /***
+     * Method that moves every entity in the broadphase by one tick
+     * @param broadphase Broadphase of one type of randomly moving game object
+     */
+    public void update(Broadphase<? extends RandomlyMovingEntity> broadphase) {
+        run(broadphase, UPDATE);
+    }
+
+    /***
+     * Method that stores the position of every entity in the broadphase as its position at the previous tick
+     * @param broadphase Broadphase of one type of game object
+     */
+    public void savePositions(Broadphase<? extends Entity> broadphase) {
+        run(broadphase, SAVE_POSITION);
+    }
+
+    /***
+     * Method that applies an operation to every entity in the broadphase, splitting the entities into chunks
+     * only when there is more than one chunk of them
+     * @param broadphase Broadphase of one type of game object
+     * @param operation Operation to apply, either UPDATE or SAVE_POSITION
+     */
+    private void run(Broadphase<? extends Entity> broadphase, int operation) {
+        if (CHUNK_SIZE <= 0 || broadphase.size() <= CHUNK_SIZE) {
+            apply(broadphase, operation, 0, broadphase.size());
+        } else {
+            POOL.invoke(new Chunk(broadphase, operation, 0, broadphase.size(), CHUNK_SIZE));
+        }
+    }
+
+    /***
+     * Method that applies an operation to each entity in a range of the broadphase in turn
+     * @param broadphase Broadphase of one type of game object
+     * @param operation Operation to apply, either UPDATE or SAVE_POSITION
+     * @param from Index of the first entity
+     * @param to Index after the last entity
+     */
+    private static void apply(Broadphase<? extends Entity> broadphase, int operation, int from, int to) {
+        if (operation == UPDATE) {
+            for (int i = from; i < to; i++) {
+                ((RandomlyMovingEntity) broadphase.get(i)).update();
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                broadphase.get(i).savePosition();
+            }
+        }
+    }
+
+    /**
+     * Class for a task applying an operation to a range of entities, splitting the range in half until each half
+     * is no larger than a chunk.
+     */
+    private static class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Broadphase<? extends Entity> BROADPHASE;
+        private final int OPERATION, FROM, TO, CHUNK_SIZE;
+
+        /**
+         * Constructor method for chunk class to initialise object when instantiated
+         * @param BROADPHASE Broadphase of one type of game object
+         * @param OPERATION Operation to apply, either UPDATE or SAVE_POSITION
+         * @param FROM Index of the first entity
+         * @param TO Index after the last entity
+         * @param CHUNK_SIZE Largest number of entities updated without splitting the range again
+         */
+        private Chunk(Broadphase<? extends Entity> BROADPHASE, int OPERATION, int FROM, int TO, int CHUNK_SIZE) {
+            this.BROADPHASE = BROADPHASE;
+            this.OPERATION = OPERATION;
+            this.FROM = FROM;
+            this.TO = TO;
+            this.CHUNK_SIZE = CHUNK_SIZE;
+        }
+
+        /***
+         * Method that applies the operation to the range, or splits it and runs both halves as tasks
+         */
+        @Override
+        protected void compute() {
+            if (TO - FROM <= CHUNK_SIZE) {
+                apply(BROADPHASE, OPERATION, FROM, TO);
+                return;
+            }
+            int middle = (FROM + TO) >>> 1;
+            invokeAll(new Chunk(BROADPHASE, OPERATION, FROM, middle, CHUNK_SIZE),
+                    new Chunk(BROADPHASE, OPERATION, middle, TO, CHUNK_SIZE));
+        }
+    }
+}
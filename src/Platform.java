@@ -1,7 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Window;
-import java.util.Properties;
 
 /**
  * Class for the platform entity.
@@ -11,55 +7,34 @@ import java.util.Properties;
  * @version 1.16
  */
 public class Platform extends Entity {
-    private final double LEFT_BORDER, RIGHT_BORDER;
-
     /**
      * Constructor method for platform class to initialise object when instantiated
      * @param x Horizontal position of entity in game environment
      * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public Platform(double x, double y, Properties PROPS) {
+    public Platform(double x, double y, GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, 0, Integer.parseInt(PROPS.getProperty("gameObjects.platform.speed")),
-                new Image(PROPS.getProperty("gameObjects.platform.image")));
-
-        // Initialise border constants to test if player has reached a border
-        LEFT_BORDER = x;
-        RIGHT_BORDER = x - getImage().getWidth() + Window.getWidth();
-    }
-
-    /***
-     * Method that updates the platform movement and draws it.
-     * @param input Input provided by the user
-     * @param target Reference to the Player object
-     */
-    public void updateWithTarget(Input input, Player target) {
-        // Updates the platform's position in relation to the player's movement
-        updateEntity(input, target);
-
-        // Sets the status of the player to indicate if the border has been reached
-        target.setPlatformBorderLeftStatus(atLeftBorder(getX()));
-        target.setPlatformBorderRightStatus(atRightBorder(getX()));
+        super(x, y, 0, CONFIG.getPlatform().getSpeed(), CONFIG.getPlatform().getImage());
     }
 
     /***
-     * Method that gets and returns if the platform has reached its maximum movement to the left, indicating
-     * the player has reached the left border of the game world
-     * @param x Horizontal position of platform in game environment
-     * @return boolean Returns if the player has reached the left border of the game world
+     * Method that draws the platform, repeating its image to the right until it spans the whole game world. Only
+     * the copies within the camera's view are drawn, and the first copy always is.
+     * @param renderer Renderer to draw the entity with
+     * @param camera Camera viewing the game world
      */
-    private boolean atLeftBorder(double x) {
-        return (x >= LEFT_BORDER);
-    }
+    @Override
+    public void drawEntity(Renderer renderer, Camera camera) {
+        double width = renderer.getImageWidth(getImage());
+        double left = getX() - width / 2;
+        renderer.drawImage(getImage(), camera.toScreenX(getX()), getY());
 
-    /***
-     * Method that gets and returns if the platform has reached its maximum movement to the right, indicating
-     * the player has reached the right border of the game world
-     * @param x Horizontal position of platform in game environment
-     * @return boolean Returns if the player has reached the right border of the game world
-     */
-    private boolean atRightBorder(double x) {
-        return (x <= RIGHT_BORDER);
+        // Later copies are only drawn from the first one reaching into the camera's view
+        int first = Math.max(1, (int) Math.floor((camera.getViewMinX() - left) / width));
+        for (int i = first; left + i * width <= camera.getViewMaxX() && left + i * width < camera.getWorldMaxX();
+             i++) {
+            renderer.drawImage(getImage(), camera.toScreenX(getX() + i * width), getY());
+        }
     }
 }
\ No newline at end of file
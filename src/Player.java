@@ -1,7 +1,4 @@
-import bagel.Image;
-import bagel.Input;
 import bagel.Keys;
-import java.util.Properties;
 
 /**
  * Class for the player.
@@ -11,48 +8,67 @@ import java.util.Properties;
  * @version 1.16
  */
 public class Player extends FireThrower {
-    private final Properties PROPS;
-    private final int INITIAL_Y, INITIAL_JUMP_SPEED = -20;
-    private double baselineY;
-    private boolean invincibilityActive = false, fallingFromPlatform, atPlatformBorderLeft, atPlatformBorderRight;
+    private final String IMAGE_LEFT, IMAGE_RIGHT;
+    private final int INITIAL_JUMP_SPEED = -20;
+    private double initialY, baselineY;
+    private boolean invincibilityActive = false, fallingFromPlatform;
     private int invincibilityTimer = 0, doubleScoreTimer = 0, activeDoubleScores = 0;
 
     /**
      * Constructor method for player class to initialise object when instantiated
      * @param x Horizontal position of entity in game environment
      * @param y Vertical position of entity in game environment
-     * @param PROPS Game properties to access information about game object
+     * @param CONFIG Parsed game properties to access information about game object
      */
-    public Player(int x, int y, Properties PROPS) {
+    public Player(int x, int y, GameConfig CONFIG) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, Double.parseDouble(PROPS.getProperty("gameObjects.player.radius")), 0,
-                new Image(PROPS.getProperty("gameObjects.player.imageRight")),
-                Double.parseDouble(PROPS.getProperty("gameObjects.player.health")), PROPS);
+        super(x, y, CONFIG.getPlayer().getRadius(), 0, CONFIG.getPlayer().getImage(),
+                CONFIG.getPlayer().getHealth(), CONFIG);
 
         // Initialise constants and set the vertical baseline to the initial vertical position of the player
-        this.INITIAL_Y = y;
-        this.baselineY = INITIAL_Y;
-        this.PROPS = PROPS;
+        this.initialY = y;
+        this.baselineY = initialY;
+
+        // Store both direction images so the player can face either way
+        this.IMAGE_LEFT = CONFIG.getPlayer().getImageLeft();
+        this.IMAGE_RIGHT = getImage();
+    }
+
+    /***
+     * Method that returns the player to its starting state at the given position, facing right on the ground with
+     * no power-ups active
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        setImage(IMAGE_RIGHT);
+        initialY = y;
+        baselineY = initialY;
+        invincibilityActive = false;
+        fallingFromPlatform = false;
+        invincibilityTimer = 0;
+        doubleScoreTimer = 0;
+        activeDoubleScores = 0;
     }
 
     /***
      * Method that updates the Player entity. Changes the direction of the image to align with player movement.
-     * Draws entity in game environment. Updates power-up statuses. Moves vertically during jump or death animation.
+     * Updates power-up statuses. Moves vertically during jump or death animation.
      * @param input Input provided by the user
      * @param target Reference to Enemy Boss object
      * @param enemyBossExists Boolean indicating if the Enemy Boss exists in the level
      */
-    public void update(Input input, EnemyBoss target, boolean enemyBossExists) {
+    public void update(GameInput input, EnemyBoss target, boolean enemyBossExists) {
         // Changes the direction of the image dependent on which arrow is being pressed by the user
         if (input.wasPressed(Keys.LEFT)) {
-            setImage(new Image(this.PROPS.getProperty("gameObjects.player.imageLeft")));
+            setImage(IMAGE_LEFT);
         }
         if (input.wasPressed(Keys.RIGHT)) {
-            setImage(new Image(this.PROPS.getProperty("gameObjects.player.imageRight")));
+            setImage(IMAGE_RIGHT);
         }
 
-        // Draws the player in the game environment
-        drawEntity();
         // Moves the player vertically if jump has been initialised
         jump(input);
 
@@ -76,9 +92,9 @@ public class Player extends FireThrower {
 
         // If there is an enemy boss, update the player's thrown fireballs and throw fireballs when prompted by user
         if (enemyBossExists) {
-            updateFireballs(input, target);
+            updateFireballs(target);
             if (input.wasPressed(Keys.S)) {
-                throwFireball(target, getX(), getY(), PROPS);
+                throwFireball(target, getX(), getY());
             }
         }
     }
@@ -87,7 +103,7 @@ public class Player extends FireThrower {
      * Method that handles the player's jumping movement.
      * @param input Input provided by the user
      */
-    public void jump(Input input) {
+    public void jump(GameInput input) {
         // Player can only jump if they are not dead
         if (!isDead()) {
             // On a platform and up arrow key is pressed
@@ -211,7 +227,7 @@ public class Player extends FireThrower {
      * Method that resets the player's vertical baseline to the initial y-value when returning to the main platform
      */
     public void resetBaseline() {
-        baselineY = INITIAL_Y;
+        baselineY = initialY;
     }
 
     /**
@@ -229,38 +245,4 @@ public class Player extends FireThrower {
     public boolean isFallingFromPlatform() {
         return this.fallingFromPlatform;
     }
-
-    /***
-     * Method that tests sets the status of the player in relation to whether it has reached the left border of
-     * the game world
-     * @param atPlatformBorderLeft Determines if the player has reached the left border of the game world
-     */
-    public void setPlatformBorderLeftStatus(boolean atPlatformBorderLeft) {
-        this.atPlatformBorderLeft = atPlatformBorderLeft;
-    }
-
-    /***
-     * Method that tests sets the status of the player in relation to whether it has reached the right border of
-     * the game world
-     * @param atPlatformBorderRight Determines if the player has reached the right border of the game world
-     */
-    public void setPlatformBorderRightStatus(boolean atPlatformBorderRight) {
-        this.atPlatformBorderRight = atPlatformBorderRight;
-    }
-
-    /***
-     * Method that gets and returns if the player has reached the left border of the world
-     * @return boolean Returns if the player has reached the left border of the game world
-     */
-    public boolean playerAtBorderLeft() {
-        return (this.atPlatformBorderLeft);
-    }
-
-    /***
-     * Method that gets and returns if the player has reached the right border of the world
-     * @return boolean Returns if the player has reached the right border of the game world
-     */
-    public boolean playerAtBorderRight() {
-        return (this.atPlatformBorderRight);
-    }
 }
\ No newline at end of file
@@ -1,5 +1,3 @@
-import bagel.*;
-
 /**
  * Abstract Super-Class for power-up collectable entities.
  *
@@ -7,43 +5,31 @@ import bagel.*;
  * @version 1.16
  */
 public abstract class PowerUp extends Collectable {
-    private boolean isCollided = false;
     private final int MAX_FRAMES;
 
     /**
      * Constructor method for power-up class to initialise object when instantiated
-     * @param x Horizontal position of entity in game environment
-     * @param y Vertical position of entity in game environment
      * @param RADIUS Collision radius value of given entity
      * @param SPEED_X Horizontal movement speed of entity with player movement
-     * @param image Image object of entity to be drawn
+     * @param image Path to the image file of entity to be drawn
      * @param MAX_FRAMES Maximum number of frames for power-up to last to initialise timer
      */
-    public PowerUp(double x, double y, double RADIUS, int SPEED_X, Image image, int MAX_FRAMES) {
+    public PowerUp(double RADIUS, int SPEED_X, String image, int MAX_FRAMES) {
         // Calls the superclass constructor to instantiate object
-        super(x, y, RADIUS, SPEED_X, image);
+        super(RADIUS, SPEED_X, image);
 
         // Initialise constant of maximum number of frames for the power-up to last
         this.MAX_FRAMES = MAX_FRAMES;
     }
 
     /***
-     * Method that updates the power-up entity movement and draws it. Also checks for collisions with the player.
-     * @param input Input provided by the user
+     * Method that implements abstract method defined in super-class to collect a power-up by executing it.
      * @param target Reference to the Player object
+     * @return int Value to be added towards the total score, which is none for power-ups
      */
-    public void updateWithTarget(Input input, Player target) {
-        // Moves entity in accordance with player movement and draws entity
-        updateEntity(input, target);
-
-        // Tests if a collision with the player and a power-up has occurred using the CollisionDetector class
-        if (CollisionDetector.isCollided(target, getX(), getY(), getRADIUS()) && !isCollided) {
-            // If collision occurs, start moving power-up entity vertically upwards and execute relevant
-            // power-up
-            isCollided = true;
-            setSpeedY();
-            executePowerUp(target, MAX_FRAMES);
-        }
+    public int collect(Player target) {
+        executePowerUp(target, MAX_FRAMES);
+        return 0;
     }
 
     /***
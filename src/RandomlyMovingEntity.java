@@ -1,5 +1,3 @@
-import bagel.*;
-
 /**
  * Abstract Super-Class for entities with independent random movement from the player.
  *
@@ -8,7 +6,7 @@ import bagel.*;
  */
 public abstract class RandomlyMovingEntity extends Entity implements HorizontallyMovable {
     private double randomSpeed, cumulativeDisplacement = 0;
-    private final double MAX_DISPLACEMENT;
+    private final double INITIAL_RANDOM_SPEED, MAX_DISPLACEMENT;
 
     /**
      * Constructor method for randomly moving entity class to initialise object when instantiated
@@ -16,20 +14,27 @@ public abstract class RandomlyMovingEntity extends Entity implements Horizontall
      * @param y Vertical position of entity in game environment
      * @param RADIUS Collision radius value of given entity
      * @param SPEED_X Horizontal movement speed of entity with player movement
-     * @param image Image object of entity to be drawn
+     * @param image Path to the image file of entity to be drawn
      * @param randomSpeed Speed of movement for horizontal random movement
      * @param MAX_DISPLACEMENT Maximum horizontal displacement from original position in random movement
      */
-    public RandomlyMovingEntity(double x, double y, double RADIUS, int SPEED_X, Image image, double randomSpeed,
+    public RandomlyMovingEntity(double x, double y, double RADIUS, int SPEED_X, String image, double randomSpeed,
                                 double MAX_DISPLACEMENT) {
         // Calls the superclass constructor to instantiate object
         super(x, y, RADIUS, SPEED_X, image);
 
         // Initialise maximum displacement constant and the random movement speed of the entity
         this.randomSpeed = randomSpeed;
+        this.INITIAL_RANDOM_SPEED = randomSpeed;
         this.MAX_DISPLACEMENT = MAX_DISPLACEMENT;
     }
 
+    /***
+     * Method that defines abstract method to update the entity by one tick. Must only change the entity itself, as
+     * entities of one type may be updated in parallel.
+     */
+    public abstract void update();
+
     /***
      * Method that updates the random movement of the entity to move horizontally independent of the player,
      * switching directions whenever the maximum displacement has been reached.
@@ -46,6 +51,19 @@ public abstract class RandomlyMovingEntity extends Entity implements Horizontall
         moveX();
     }
 
+    /***
+     * Method that returns the entity to its starting state at the given position, moving in its initial direction
+     * from the middle of its random movement
+     * @param x Horizontal position of entity in game environment
+     * @param y Vertical position of entity in game environment
+     */
+    @Override
+    public void respawn(double x, double y) {
+        super.respawn(x, y);
+        randomSpeed = INITIAL_RANDOM_SPEED;
+        cumulativeDisplacement = 0;
+    }
+
     /***
      * Method that implements horizontal movement method. Increments the horizontal position of the entity by the
      * random movement speed
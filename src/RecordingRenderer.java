@@ -0,0 +1,150 @@
+import bagel.util.Colour;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that stands in for the bagel window when the game runs without one. Counts every draw call and can keep
+ * a readable record of them.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class RecordingRenderer implements Renderer {
+    private final boolean RECORD;
+    private final List<String> commands = new ArrayList<String>();
+    private final Map<String, Double> imageWidths = new HashMap<String, Double>();
+    private long imageDraws = 0, stringDraws = 0, batches = 0;
+
+    /**
+     * Constructor method for recording renderer class to initialise object when instantiated
+     * @param RECORD Whether to keep a record of every draw call, or only count them
+     */
+    public RecordingRenderer(boolean RECORD) {
+        this.RECORD = RECORD;
+    }
+
+    /***
+     * Method that counts, and if recording, records an image draw
+     * @param imageFile Path to the image file
+     * @param x Horizontal position of the centre of the image
+     * @param y Vertical position of the centre of the image
+     */
+    public void drawImage(String imageFile, double x, double y) {
+        imageDraws++;
+        if (RECORD) {
+            commands.add("image " + imageFile + " " + x + " " + y);
+        }
+    }
+
+    /***
+     * Method that counts, and if recording, records a batch of image draws followed by each image in it
+     * @param imageFile Path to the image file
+     * @param xs Horizontal positions of the centres of the images
+     * @param ys Vertical positions of the centres of the images
+     * @param from Index of the first position
+     * @param to Index after the last position
+     */
+    public void drawImages(String imageFile, double[] xs, double[] ys, int from, int to) {
+        batches++;
+        if (RECORD) {
+            commands.add("batch " + imageFile + " " + (to - from));
+        }
+        for (int i = from; i < to; i++) {
+            drawImage(imageFile, xs[i], ys[i]);
+        }
+    }
+
+    /***
+     * Method that counts, and if recording, records a text draw
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y) {
+        stringDraws++;
+        if (RECORD) {
+            commands.add("text " + fontSize + " " + text + " " + x + " " + y);
+        }
+    }
+
+    /***
+     * Method that counts, and if recording, records a coloured text draw
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     * @param colour Colour of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y, Colour colour) {
+        drawString(fontSize, text, x, y);
+    }
+
+    /***
+     * Method that estimates the width a line of text takes up, as there is no font to measure with
+     * @param fontSize Size of the font to measure with
+     * @param text Text to measure
+     * @return double Returns the estimated width of the text
+     */
+    public double getStringWidth(int fontSize, String text) {
+        return text.length() * fontSize / 2.0;
+    }
+
+    /***
+     * Method that gets and returns the width of an image, read from the image file header
+     * @param imageFile Path to the image file
+     * @return double Returns the width of the image
+     */
+    public double getImageWidth(String imageFile) {
+        Double width = imageWidths.get(imageFile);
+        if (width == null) {
+            width = (double) IOUtils.readImageWidth(imageFile);
+            imageWidths.put(imageFile, width);
+        }
+        return width;
+    }
+
+    /***
+     * Method that gets and returns the draw calls recorded so far
+     * @return List Returns the recorded draw calls, oldest first
+     */
+    public List<String> getCommands() {
+        return commands;
+    }
+
+    /***
+     * Method that gets and returns the number of images drawn so far
+     * @return long Returns the number of image draws
+     */
+    public long getImageDraws() {
+        return imageDraws;
+    }
+
+    /***
+     * Method that gets and returns the number of text lines drawn so far
+     * @return long Returns the number of text draws
+     */
+    public long getStringDraws() {
+        return stringDraws;
+    }
+
+    /***
+     * Method that gets and returns the number of batches of images drawn so far
+     * @return long Returns the number of batches
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /***
+     * Method that clears the recorded draw calls and counters
+     */
+    public void clear() {
+        commands.clear();
+        imageDraws = 0;
+        stringDraws = 0;
+        batches = 0;
+    }
+}
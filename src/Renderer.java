@@ -0,0 +1,61 @@
+import bagel.util.Colour;
+
+/**
+ * Interface for everything the game draws, so the game can run with or without a window.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public interface Renderer {
+    /***
+     * Method that draws an image centred at the given position
+     * @param imageFile Path to the image file
+     * @param x Horizontal position of the centre of the image
+     * @param y Vertical position of the centre of the image
+     */
+    public void drawImage(String imageFile, double x, double y);
+
+    /***
+     * Method that draws one image centred at each of a run of positions, looking the image up only once
+     * @param imageFile Path to the image file
+     * @param xs Horizontal positions of the centres of the images
+     * @param ys Vertical positions of the centres of the images
+     * @param from Index of the first position
+     * @param to Index after the last position
+     */
+    public void drawImages(String imageFile, double[] xs, double[] ys, int from, int to);
+
+    /***
+     * Method that draws a line of text with its bottom-left corner at the given position
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y);
+
+    /***
+     * Method that draws a line of coloured text with its bottom-left corner at the given position
+     * @param fontSize Size of the font to draw with
+     * @param text Text to draw
+     * @param x Horizontal position of the text
+     * @param y Vertical position of the text
+     * @param colour Colour of the text
+     */
+    public void drawString(int fontSize, String text, double x, double y, Colour colour);
+
+    /***
+     * Method that gets and returns the width a line of text takes up when drawn
+     * @param fontSize Size of the font to measure with
+     * @param text Text to measure
+     * @return double Returns the width of the text
+     */
+    public double getStringWidth(int fontSize, String text);
+
+    /***
+     * Method that gets and returns the width of an image
+     * @param imageFile Path to the image file
+     * @return double Returns the width of the image
+     */
+    public double getImageWidth(String imageFile);
+}
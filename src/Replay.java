@@ -0,0 +1,264 @@
+import bagel.Keys;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Class for a recording of the input that drove one play of a level, so the play can be run again exactly. Each
+ * simulation tick's input is packed into a bitmask of the keys held and pressed, and runs of ticks with the same
+ * bitmask are stored once with their length. The file holds the level number and random seed, then each run as a
+ * bitmask and length written as variable-length integers, so holding a key for a second takes two or three bytes.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class Replay {
+    static final int MAGIC = 0x534D5250, VERSION = 1;
+    // Keys the game reads as held down, then keys it reads as pressed, each given one bit in that order
+    private static final Keys[] DOWN_KEYS = {Keys.LEFT, Keys.RIGHT};
+    private static final Keys[] PRESSED_KEYS = {Keys.LEFT, Keys.RIGHT, Keys.UP, Keys.S, Keys.SPACE, Keys.NUM_1,
+            Keys.NUM_2, Keys.NUM_3};
+    private final int LEVEL_NUMBER;
+    private final long SEED;
+    private int[] masks = new int[64];
+    private int[] lengths = new int[64];
+    private int runCount = 0;
+    private long tickCount = 0;
+
+    /**
+     * Constructor method for replay class to start an empty recording
+     * @param LEVEL_NUMBER Number of the level played, starting from 1
+     * @param SEED Random seed the level was played with
+     */
+    public Replay(int LEVEL_NUMBER, long SEED) {
+        this.LEVEL_NUMBER = LEVEL_NUMBER;
+        this.SEED = SEED;
+    }
+
+    /***
+     * Method that records the input of one simulation tick, extending the last run if the input is unchanged
+     * @param input Input the tick was run with
+     */
+    public void recordTick(GameInput input) {
+        addRun(toMask(input), 1);
+    }
+
+    /***
+     * Method that packs the keys the game reads into a bitmask
+     * @param input Input to pack
+     * @return int Returns the bitmask of keys held down, followed by keys pressed
+     */
+    static int toMask(GameInput input) {
+        int mask = 0;
+        for (int i = 0; i < DOWN_KEYS.length; i++) {
+            if (input.isDown(DOWN_KEYS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        for (int i = 0; i < PRESSED_KEYS.length; i++) {
+            if (input.wasPressed(PRESSED_KEYS[i])) {
+                mask |= 1 << (DOWN_KEYS.length + i);
+            }
+        }
+        return mask;
+    }
+
+    /***
+     * Method that determines if the given key is held down in a bitmask
+     * @param mask Bitmask of one tick's input
+     * @param key Key to test
+     * @return boolean Returns if the key is held down
+     */
+    static boolean isDown(int mask, Keys key) {
+        for (int i = 0; i < DOWN_KEYS.length; i++) {
+            if (DOWN_KEYS[i] == key) {
+                return (mask & (1 << i)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /***
+     * Method that determines if the given key was pressed in a bitmask
+     * @param mask Bitmask of one tick's input
+     * @param key Key to test
+     * @return boolean Returns if the key was pressed
+     */
+    static boolean wasPressed(int mask, Keys key) {
+        for (int i = 0; i < PRESSED_KEYS.length; i++) {
+            if (PRESSED_KEYS[i] == key) {
+                return (mask & (1 << (DOWN_KEYS.length + i))) != 0;
+            }
+        }
+        return false;
+    }
+
+    /***
+     * Method that adds ticks with the same input, extending the last run if its input matches
+     * @param mask Bitmask of the input
+     * @param length Number of ticks
+     */
+    private void addRun(int mask, int length) {
+        tickCount += length;
+        if (runCount > 0 && masks[runCount - 1] == mask && lengths[runCount - 1] <= Integer.MAX_VALUE - length) {
+            lengths[runCount - 1] += length;
+            return;
+        }
+        if (runCount == masks.length) {
+            masks = Arrays.copyOf(masks, runCount * 2);
+            lengths = Arrays.copyOf(lengths, runCount * 2);
+        }
+        masks[runCount] = mask;
+        lengths[runCount] = length;
+        runCount++;
+    }
+
+    /***
+     * Method that writes the recording to a replay file
+     * @param replayFile Path to write the replay file to
+     * @throws IOException If the file cannot be written
+     */
+    public void write(String replayFile) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(replayFile)))) {
+            out.writeInt(MAGIC);
+            writeVarInt(out, VERSION);
+            writeVarInt(out, LEVEL_NUMBER);
+            out.writeLong(SEED);
+            writeVarInt(out, runCount);
+            for (int i = 0; i < runCount; i++) {
+                writeVarInt(out, masks[i]);
+                writeVarInt(out, lengths[i]);
+            }
+        }
+    }
+
+    /***
+     * Method that reads a recording from a replay file
+     * @param replayFile Path to the replay file
+     * @return Replay Returns the recording held in the file
+     * @throws IOException If the file cannot be read, is not a replay file of this version or holds a level number
+     * or run count that cannot be right
+     */
+    public static Replay read(String replayFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(replayFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a replay file");
+            }
+            int version = readVarInt(in);
+            if (version != VERSION) {
+                throw new IOException("Unsupported replay file version " + version);
+            }
+            int levelNumber = readVarInt(in);
+            if (levelNumber < 1) {
+                throw new IOException("Replay file has an invalid level number " + levelNumber);
+            }
+            Replay replay = new Replay(levelNumber, in.readLong());
+            int runs = readVarInt(in);
+            if (runs < 0) {
+                throw new IOException("Replay file has a negative run count");
+            }
+            for (int i = 0; i < runs; i++) {
+                int mask = readVarInt(in);
+                int length = readVarInt(in);
+                if (length <= 0) {
+                    throw new IOException("Replay file has an empty run");
+                }
+                replay.addRun(mask, length);
+            }
+            return replay;
+        }
+    }
+
+    /***
+     * Method that writes a non-negative integer in as few bytes as it needs, seven bits to a byte, with the top
+     * bit of each byte set if more bytes follow
+     * @param out Stream to write to
+     * @param value Value to write
+     * @throws IOException If the stream cannot be written
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /***
+     * Method that reads an integer written by writeVarInt
+     * @param in Stream to read from
+     * @return int Returns the value read
+     * @throws IOException If the stream ends early or the value is too long
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Replay file is truncated");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Replay file has an integer that is too long");
+    }
+
+    /***
+     * Method that gets and returns the number of the level played
+     * @return int Returns the level number, starting from 1
+     */
+    public int getLevelNumber() {
+        return this.LEVEL_NUMBER;
+    }
+
+    /***
+     * Method that gets and returns the random seed the level was played with
+     * @return long Returns the random seed
+     */
+    public long getSeed() {
+        return this.SEED;
+    }
+
+    /***
+     * Method that gets and returns the number of simulation ticks recorded
+     * @return long Returns the number of ticks
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /***
+     * Method that gets and returns the number of runs of unchanged input recorded
+     * @return int Returns the number of runs
+     */
+    public int getRunCount() {
+        return this.runCount;
+    }
+
+    /***
+     * Method that gets and returns the input bitmask of a run
+     * @param run Index of the run
+     * @return int Returns the bitmask of the run's input
+     */
+    int getMask(int run) {
+        return masks[run];
+    }
+
+    /***
+     * Method that gets and returns the number of ticks in a run
+     * @param run Index of the run
+     * @return int Returns the length of the run
+     */
+    int getLength(int run) {
+        return lengths[run];
+    }
+}
@@ -0,0 +1,56 @@
+import bagel.Keys;
+
+/**
+ * Class for keyboard state played back from a replay, one simulation tick at a time.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class ReplayInput implements GameInput {
+    private final Replay REPLAY;
+    private int run = 0, ticksLeftInRun = 0, mask = 0;
+
+    /**
+     * Constructor method for replay input class to play back a replay from its first tick
+     * @param REPLAY Replay to play back
+     */
+    public ReplayInput(Replay REPLAY) {
+        this.REPLAY = REPLAY;
+    }
+
+    /***
+     * Method that moves on to the input of the next recorded tick
+     * @return boolean Returns if there was another tick, or false once every tick has been played back
+     */
+    public boolean nextTick() {
+        if (ticksLeftInRun == 0) {
+            if (run == REPLAY.getRunCount()) {
+                mask = 0;
+                return false;
+            }
+            mask = REPLAY.getMask(run);
+            ticksLeftInRun = REPLAY.getLength(run);
+            run++;
+        }
+        ticksLeftInRun--;
+        return true;
+    }
+
+    /***
+     * Method that determines if the given key is held down in the current tick
+     * @param key Key to test
+     * @return boolean Returns if the key is held down
+     */
+    public boolean isDown(Keys key) {
+        return Replay.isDown(mask, key);
+    }
+
+    /***
+     * Method that determines if the given key was pressed in the current tick
+     * @param key Key to test
+     * @return boolean Returns if the key was pressed
+     */
+    public boolean wasPressed(Keys key) {
+        return Replay.wasPressed(mask, key);
+    }
+}
@@ -0,0 +1,82 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * Class that plays a recorded replay back without a window, as fast as the level can be simulated. Used to repeat
+ * a real play of the game when measuring performance or tracking down a bug.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class ReplayPlayer {
+
+    /**
+     * The entry point for playing back a replay without a window.
+     * Usage: ReplayPlayer REPLAY_FILE [--record]
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayPlayer REPLAY_FILE [--record]");
+            System.exit(-1);
+        }
+        boolean record = args.length > 1 && args[1].equals("--record");
+        Replay replay = null;
+        try {
+            replay = Replay.read(args[0]);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+
+        GameConfig config = IOUtils.readGameConfig("res/app.properties");
+        Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
+        if (replay.getLevelNumber() > config.getLevelCount()) {
+            System.err.println("Replay is of level " + replay.getLevelNumber() + ", but levels are 1 to " +
+                    config.getLevelCount());
+            System.exit(-1);
+        }
+
+        // The level must be loaded with the seed it was played with for the replay to play out the same way
+        RecordingRenderer renderer = new RecordingRenderer(record);
+        Level level = new Level(config, message_props, renderer);
+        level.setSeed(replay.getSeed());
+        level.loadLevel(replay.getLevelNumber());
+
+        long start = System.nanoTime();
+        String outcome = play(level, new ReplayInput(replay), config.getWindowHeight());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("Replay of level %d with seed %d: %d ticks in %d runs, %d bytes%n",
+                replay.getLevelNumber(), replay.getSeed(), replay.getTickCount(), replay.getRunCount(),
+                new File(args[0]).length());
+        System.out.printf("Played in %.3f s (%.0f ticks/sec), %s with score %d%n", seconds,
+                replay.getTickCount() / seconds, outcome, level.getScore());
+        if (record) {
+            for (String command : renderer.getCommands()) {
+                System.out.println(command);
+            }
+        }
+    }
+
+    /***
+     * Method that plays every tick of a replay, checking after each tick whether the game was won or lost the
+     * same way the game does, and drawing each tick
+     * @param level Level to play, already loaded with the replay's seed
+     * @param input Input played back from the replay
+     * @param WINDOW_HEIGHT Height of the window, which the player falls out of when killed
+     * @return String Returns how the replay ended
+     */
+    public static String play(Level level, ReplayInput input, int WINDOW_HEIGHT) {
+        while (input.nextTick()) {
+            level.renderEnvironment(input);
+            if (level.endFlagCollided()) {
+                return "won";
+            } else if (level.gameOver(WINDOW_HEIGHT)) {
+                return "lost";
+            }
+        }
+        return "still playing";
+    }
+}
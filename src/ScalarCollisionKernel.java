@@ -0,0 +1,57 @@
+/**
+ * Class that implements the collision tests one circle at a time, comparing squared distances to avoid square
+ * roots.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class ScalarCollisionKernel implements CollisionKernel {
+    /***
+     * Method that determines if two points are within the given distance of each other
+     * @param x1 Horizontal position of the first point
+     * @param y1 Vertical position of the first point
+     * @param x2 Horizontal position of the second point
+     * @param y2 Vertical position of the second point
+     * @param reach Largest distance at which the points still overlap
+     * @return boolean Returns if the points are within reach of each other
+     */
+    public boolean overlaps(double x1, double y1, double x2, double y2, double reach) {
+        double dx = x1 - x2, dy = y1 - y2;
+        return dx * dx + dy * dy <= reach * reach;
+    }
+
+    /***
+     * Method that tests a circle against a batch of circles stored as columns of coordinates
+     * @param x Horizontal position of the circle to test against
+     * @param y Vertical position of the circle to test against
+     * @param radius Radius of the circle to test against
+     * @param xs Horizontal positions of the batch
+     * @param ys Vertical positions of the batch
+     * @param radii Radii of the batch
+     * @param from Index of the first circle in the batch to test
+     * @param to Index after the last circle in the batch to test
+     * @param hits Bitmask to write the results to, at least (to - from + 63) / 64 words long
+     */
+    public void collide(double x, double y, double radius, double[] xs, double[] ys, double[] radii, int from,
+                        int to, long[] hits) {
+        clearHits(hits, to - from);
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - x, dy = ys[i] - y, reach = radius + radii[i];
+            if (dx * dx + dy * dy <= reach * reach) {
+                int bit = i - from;
+                hits[bit >>> 6] |= 1L << bit;
+            }
+        }
+    }
+
+    /***
+     * Method that clears the words of a bitmask that hold the results for a batch of the given size
+     * @param hits Bitmask to clear
+     * @param count Number of circles in the batch
+     */
+    static void clearHits(long[] hits, int count) {
+        for (int word = 0; word < (count + 63) >>> 6; word++) {
+            hits[word] = 0;
+        }
+    }
+}
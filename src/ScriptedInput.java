@@ -0,0 +1,56 @@
+import bagel.Keys;
+
+/**
+ * Class for keyboard state set by code rather than a user, used to run the game without a window.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class ScriptedInput implements GameInput {
+    private final boolean[] down = new boolean[Keys.values().length];
+    private final boolean[] pressed = new boolean[Keys.values().length];
+
+    /***
+     * Method that holds down or releases the given key
+     * @param key Key to hold down or release
+     * @param isDown Whether the key should be held down
+     */
+    public void setDown(Keys key, boolean isDown) {
+        down[key.ordinal()] = isDown;
+    }
+
+    /***
+     * Method that presses the given key for the next update only
+     * @param key Key to press
+     */
+    public void press(Keys key) {
+        pressed[key.ordinal()] = true;
+    }
+
+    /***
+     * Method that clears all key presses once an update has read them. Held keys stay held.
+     */
+    public void endTick() {
+        for (int i = 0; i < pressed.length; i++) {
+            pressed[i] = false;
+        }
+    }
+
+    /***
+     * Method that determines if the given key is currently held down
+     * @param key Key to test
+     * @return boolean Returns if the key is held down
+     */
+    public boolean isDown(Keys key) {
+        return down[key.ordinal()];
+    }
+
+    /***
+     * Method that determines if the given key was pressed since the last update
+     * @param key Key to test
+     * @return boolean Returns if the key was pressed
+     */
+    public boolean wasPressed(Keys key) {
+        return pressed[key.ordinal()];
+    }
+}
@@ -0,0 +1,222 @@
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Class that plays many independent game sessions at once without a window, for bot matches and for checking
+ * replays on a server. Each session is played in slices of a fixed number of ticks, and a session that has not
+ * ended goes to the back of the queue after each slice, so no session can hold a thread for long and every
+ * session keeps making progress. Sessions run on virtual threads where the Java version has them, and on a
+ * work-stealing pool otherwise.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class SessionHost {
+    private static final String USAGE = "Usage: SessionHost SESSIONS TICKS [--seed SEED] [--budget TICKS] [--pool] " +
+            "[--replay REPLAY_FILE]...";
+    private static final int DEFAULT_BUDGET = 60;
+    private final ExecutorService EXECUTOR;
+    private final int TICK_BUDGET;
+    private final boolean VIRTUAL_THREADS;
+    private CountDownLatch remaining;
+
+    /**
+     * Constructor method for session host class to initialise object when instantiated
+     * @param TICK_BUDGET Number of ticks each session plays before giving up its thread
+     * @param usePool Whether to use a work-stealing pool even if virtual threads are available
+     */
+    public SessionHost(int TICK_BUDGET, boolean usePool) {
+        this.TICK_BUDGET = TICK_BUDGET;
+        ExecutorService virtualThreads = usePool ? null : createVirtualThreadExecutor();
+        this.VIRTUAL_THREADS = virtualThreads != null;
+        this.EXECUTOR = VIRTUAL_THREADS ? virtualThreads : Executors.newWorkStealingPool();
+    }
+
+    /**
+     * The entry point for playing many sessions at once. Plays SESSIONS bot matches of TICKS ticks each, cycling
+     * through the levels with consecutive seeds, then plays back each replay given to check how it ends.
+     * Usage: SessionHost SESSIONS TICKS [--seed SEED] [--budget TICKS] [--pool] [--replay REPLAY_FILE]...
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            System.exit(-1);
+        }
+        int sessionCount = 0, budget = DEFAULT_BUDGET;
+        long ticks = 0, seed = 0;
+        boolean usePool = false;
+        List<String> replayFiles = new ArrayList<String>();
+        try {
+            sessionCount = Integer.parseInt(args[0]);
+            ticks = Long.parseLong(args[1]);
+            for (int i = 2; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--pool")) {
+                    usePool = true;
+                } else if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                } else if (option.equals("--seed")) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (option.equals("--budget")) {
+                    budget = Integer.parseInt(args[++i]);
+                } else if (option.equals("--replay")) {
+                    replayFiles.add(args[++i]);
+                } else {
+                    throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (sessionCount < 0 || ticks < 0) {
+                throw new IllegalArgumentException("Session and tick counts must not be negative");
+            }
+            if (budget <= 0) {
+                throw new IllegalArgumentException("Tick budget must be positive");
+            }
+        } catch (IllegalArgumentException ex) {
+            // A number that cannot be parsed is reported the same way, as NumberFormatException is one of these
+            System.err.println(ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(-1);
+        }
+
+        GameConfig config = IOUtils.readGameConfig("res/app.properties");
+        Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
+
+        // Every session is set up before any is played, so the time measured is only playing
+        long setUpStart = System.nanoTime();
+        List<GameSession> sessions = new ArrayList<GameSession>();
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(new GameSession(i, config, message_props, i % config.getLevelCount() + 1, seed + i,
+                    ticks));
+        }
+        // A replay file that cannot be read is reported and left out, so the other sessions are still played
+        for (String replayFile : replayFiles) {
+            try {
+                sessions.add(new GameSession(sessions.size(), replayFile, config, message_props,
+                        Replay.read(replayFile)));
+            } catch (IOException ex) {
+                System.err.println(replayFile + ": " + ex);
+            }
+        }
+        double setUpSeconds = (System.nanoTime() - setUpStart) / 1_000_000_000.0;
+
+        SessionHost host = new SessionHost(budget, usePool);
+        long start = System.nanoTime();
+        host.playAll(sessions);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        host.shutdown();
+
+        printSummary(sessions, host, setUpSeconds, seconds);
+    }
+
+    /***
+     * Method that plays every session until it ends, then returns
+     * @param sessions Sessions to play, each with its level already loaded
+     */
+    public void playAll(List<GameSession> sessions) {
+        remaining = new CountDownLatch(sessions.size());
+        for (GameSession session : sessions) {
+            schedule(session);
+        }
+        try {
+            remaining.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            ex.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    /***
+     * Method that queues the next slice of a session, which queues the slice after it until the session ends. A
+     * session that throws anything, including an error such as running out of stack, ends with the failure as its
+     * outcome rather than stopping the other sessions or leaving the host waiting for it.
+     * @param session Session to play
+     */
+    private void schedule(GameSession session) {
+        EXECUTOR.execute(() -> {
+            boolean ended = true;
+            try {
+                ended = session.play(TICK_BUDGET);
+            } catch (Throwable ex) {
+                session.fail(ex);
+            } finally {
+                if (ended) {
+                    remaining.countDown();
+                }
+            }
+            if (!ended) {
+                schedule(session);
+            }
+        });
+    }
+
+    /***
+     * Method that stops the threads of the host once every session has been played
+     */
+    public void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    /***
+     * Method that gets and returns if sessions are played on virtual threads
+     * @return boolean Returns if virtual threads are used, or false if a work-stealing pool is used
+     */
+    public boolean usesVirtualThreads() {
+        return this.VIRTUAL_THREADS;
+    }
+
+    /***
+     * Method that creates an executor starting a virtual thread for each task. Virtual threads were added in
+     * Java 21, so they are looked up by name to keep the game building on older versions.
+     * @return ExecutorService Returns the executor, or null if virtual threads are not available
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+
+    /***
+     * Method that prints how many sessions ended each way and how fast they were played, then how each replay
+     * ended
+     * @param sessions Sessions played
+     * @param host Host the sessions were played on
+     * @param setUpSeconds Time taken to set up every session, in seconds
+     * @param seconds Time taken to play every session, in seconds
+     */
+    private static void printSummary(List<GameSession> sessions, SessionHost host, double setUpSeconds,
+                                     double seconds) {
+        long totalTicks = 0, slowestNanos = 0;
+        TreeMap<String, Integer> outcomes = new TreeMap<String, Integer>();
+        for (GameSession session : sessions) {
+            totalTicks += session.getTicks();
+            slowestNanos = Math.max(slowestNanos, session.getNanos());
+            outcomes.merge(session.getOutcome(), 1, Integer::sum);
+        }
+
+        System.out.printf("%d sessions set up in %.3f s, played on %s in slices of %d ticks%n", sessions.size(),
+                setUpSeconds, host.usesVirtualThreads() ? "virtual threads" : "a work-stealing pool",
+                host.TICK_BUDGET);
+        System.out.printf("%d ticks in %.3f s (%.0f ticks/sec), slowest session %.3f s of play%n", totalTicks,
+                seconds, totalTicks / seconds, slowestNanos / 1_000_000_000.0);
+        System.out.printf("Outcomes: %s%n", outcomes);
+        for (GameSession session : sessions) {
+            if (!session.getName().equals("bot")) {
+                System.out.printf("%s: level %d with seed %d %s with score %d after %d ticks%n", session.getName(),
+                        session.getLevelNumber(), session.getLevel().getSeed(), session.getOutcome(),
+                        session.getLevel().getScore(), session.getTicks());
+            }
+        }
+    }
+}
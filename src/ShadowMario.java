@@ -1,4 +1,6 @@
 import bagel.*;
+import java.io.File;
+import java.io.IOException;
 import java.util.Properties;
 
 /**
@@ -10,79 +12,104 @@ import java.util.Properties;
  */
 public class ShadowMario extends AbstractGame {
     private final int WINDOW_HEIGHT;
-    private final String GAME_TITLE;
     private final Image BACKGROUND_IMAGE;
-    private final String FONT_FILE;
-    private final Font TITLE_FONT;
-    private final int TITLE_X;
-    private final int TITLE_Y;
-    private final String INSTRUCTION;
-    private final Font INSTRUCTION_FONT;
-    private final int INS_Y;
-    private final Font MESSAGE_FONT;
-    private final int MESSAGE_Y;
-    private final Properties PROPS, MESSAGE_PROPS;
+    private final Renderer RENDERER;
+    private final HudLabel TITLE_LABEL, INSTRUCTION_LABEL, GAME_WON_LABEL, GAME_OVER_LABEL;
+    private final BagelInput INPUT = new BagelInput();
+    private final GameClock CLOCK;
+    private final String REPLAY_DIRECTORY;
+    private Replay replay;
     private boolean finished = false, started = false;
     private Level level;
 
     /**
      * Constructor method for Shadow Mario class to initialise object when instantiated
-     * @param game_props Game properties to access information about game object
+     * @param config Parsed game properties to access information about game object
      * @param message_props Message properties to access message values for Font objects
+     * @param assets Asset files already being read from disk, to be loaded once the window is open
      */
-    public ShadowMario(Properties game_props, Properties message_props) {
-        super(Integer.parseInt(game_props.getProperty("windowWidth")),
-                Integer.parseInt(game_props.getProperty("windowHeight")),
-                message_props.getProperty("title"));
+    public ShadowMario(GameConfig config, Properties message_props, AssetPipeline assets) {
+        super(config.getWindowWidth(), config.getWindowHeight(), message_props.getProperty("title"));
 
         // Get and store all necessary game and message properties
-        WINDOW_HEIGHT = Integer.parseInt(game_props.getProperty("windowHeight"));
-        GAME_TITLE = message_props.getProperty("title");
-        BACKGROUND_IMAGE = new Image(game_props.getProperty("backgroundImage"));
-        FONT_FILE = game_props.getProperty("font");
-
-        // Instantiate all Font objects to display on game window. Store all relevant information (e.g. position)
-        TITLE_FONT = new Font(FONT_FILE, Integer.parseInt(game_props.getProperty("title.fontSize")));
-        TITLE_X = Integer.parseInt(game_props.getProperty("title.x"));
-        TITLE_Y = Integer.parseInt(game_props.getProperty("title.y"));
-
-        INSTRUCTION = message_props.getProperty("instruction");
-        INSTRUCTION_FONT = new Font(FONT_FILE, Integer.parseInt(game_props.getProperty("instruction.fontSize")));
-        INS_Y = Integer.parseInt(game_props.getProperty("instruction.y"));
-
-        MESSAGE_FONT = new Font(FONT_FILE, Integer.parseInt(game_props.getProperty("message.fontSize")));
-        MESSAGE_Y = Integer.parseInt(game_props.getProperty("message.y"));
-
-        // Store game and message properties as constants
-        this.PROPS = game_props;
-        this.MESSAGE_PROPS = message_props;
-
-        // Instantiate new Level object
-        level = new Level(game_props, message_props);
+        WINDOW_HEIGHT = config.getWindowHeight();
+        // Load every image and font up front, now the window is open, so nothing is loaded mid-game
+        assets.finish();
+        AssetRegistry.printStatistics();
+        BACKGROUND_IMAGE = AssetRegistry.getImage(config.getBackgroundImage());
+        RENDERER = new BagelRenderer(config.getFontFile());
+
+        // Create the labels of text to display on game window. The instructions and end screen messages are
+        // centred, and are only measured the first time they are drawn.
+        double centreX = config.getWindowWidth() / 2;
+        TITLE_LABEL = new HudLabel(config.getTitle(), message_props.getProperty("title"));
+        INSTRUCTION_LABEL = new HudLabel(config.getInstruction(), message_props.getProperty("instruction"), centreX);
+        GAME_WON_LABEL = new HudLabel(config.getMessage(), message_props.getProperty("gameWon"), centreX);
+        GAME_OVER_LABEL = new HudLabel(config.getMessage(), message_props.getProperty("gameOver"), centreX);
+
+        // The simulation runs at a fixed tick rate, whatever rate frames are rendered at
+        CLOCK = new GameClock(config);
+        REPLAY_DIRECTORY = config.getReplayDirectory();
+
+        // Instantiate new Level object, drawn into this window
+        level = new Level(config, message_props, RENDERER);
+        // Publish the frame timings, so they can be read from the running game over JMX
+        level.getProfiler().register();
     }
 
     /**
      * The entry point for the program.
+     * Usage: ShadowMario [--seed SEED]
      * @param args Command line arguments
      */
     public static void main(String[] args) {
-        Properties game_props = IOUtils.readPropertiesFile("res/app.properties");
+        GameConfig config = IOUtils.readGameConfig("res/app.properties");
         Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
-        ShadowMario game = new ShadowMario(game_props, message_props);
+        // Start reading the asset files while the window is being opened
+        AssetPipeline assets = AssetPipeline.start(config);
+        // Parse the levels in the background while the title screen is shown, unless they are to be streamed
+        if (!config.isStreaming()) {
+            LevelTemplateCache.prefetch(config);
+        }
+        ShadowMario game = new ShadowMario(config, message_props, assets);
+
+        // A seed given on the command line replaces the one in the game properties. The seed is printed so any
+        // run can be played out again.
+        if (args.length >= 2 && args[0].equals("--seed")) {
+            game.level.setSeed(Long.parseLong(args[1]));
+        }
+        System.out.println("Random seed: " + game.level.getSeed());
         game.run();
     }
 
     /**
-     * Performs a state update.
-     * Allows the game to exit when the escape key is pressed.
+     * Performs a state update, running the simulation ticks due since the last frame and then drawing the frame.
+     * Allows the game to exit when the escape key is pressed, turbo mode to be switched with the T key, and the
+     * profiler overlay to be shown or hidden with the P key.
      * @param input Input provided by the user
      */
     @Override
     protected void update(Input input) {
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        level.getProfiler().beginFrame();
+
         // close window
         if (input.wasPressed(Keys.ESCAPE)){
+            saveReplay();
             Window.close();
         }
+        if (input.wasPressed(Keys.T)) {
+            CLOCK.toggleTurbo();
+        }
+        if (input.wasPressed(Keys.P)) {
+            level.getProfiler().toggleOverlay();
+        }
+
+        // Pass this frame's input through to the level, and find how many ticks are due this frame
+        INPUT.setInput(input);
+        int ticks = CLOCK.advance(System.nanoTime());
+        int ticksRun = 0;
 
         // Draws the background image in the game environment
         BACKGROUND_IMAGE.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
@@ -92,53 +119,103 @@ public class ShadowMario extends AbstractGame {
             // based on the user's input
             displayStart();
 
-            if (level.setLevel(input)) {
+            if (level.setLevel(INPUT)) {
                 // When a level has been selected, indicate the game has started
                 started = true;
                 finished = false;
+                if (REPLAY_DIRECTORY != null) {
+                    replay = new Replay(level.getLevelNumber(), level.getSeed());
+                }
             }
+            INPUT.endTick();
         } else {
             // Determine the current state of the game
             if (finished) {
                 // If the game is finished, display the end screen to indicate game victory
-                endGame(input, "gameWon");
+                endGame(input, GAME_WON_LABEL);
+                INPUT.endTick();
             } else if (level.gameOver(WINDOW_HEIGHT)) {
                 // If the player was killed in the game, display game over screen
-                endGame(input, "gameOver");
+                endGame(input, GAME_OVER_LABEL);
+                INPUT.endTick();
             } else {
-                // Otherwise, continue running the game loop and render the game environment
-                level.renderEnvironment(input);
-
-                // If the player successfully reaches the End Flag, the game is won
-                if (level.endFlagCollided()) {
-                    finished = true;
+                // Otherwise, run the ticks due this frame, stopping early if the game is won or lost part way
+                for (int i = 0; i < ticks && !finished && !level.gameOver(WINDOW_HEIGHT); i++) {
+                    if (replay != null) {
+                        replay.recordTick(INPUT);
+                    }
+                    level.updateGameObjects(INPUT);
+                    INPUT.endTick();
+                    ticksRun++;
+
+                    // If the player successfully reaches the End Flag, the game is won
+                    if (level.endFlagCollided()) {
+                        finished = true;
+                    }
+                }
+                if (finished || level.gameOver(WINDOW_HEIGHT)) {
+                    saveReplay();
                 }
+
+                // Render the game environment part way between the last two ticks
+                level.setInterpolation(CLOCK.getAlpha());
+                level.drawEnvironment();
             }
         }
+        level.getProfiler().endFrame();
+
+        if (event.shouldCommit()) {
+            FrameProfiler profiler = level.getProfiler();
+            event.ticks = ticksRun;
+            event.enemies = profiler.getCount(FrameProfiler.ENEMY_COUNT);
+            event.collectables = profiler.getCount(FrameProfiler.COLLECTABLE_COUNT);
+            event.flyingPlatforms = profiler.getCount(FrameProfiler.FLYING_PLATFORM_COUNT);
+            event.fireballs = profiler.getCount(FrameProfiler.FIREBALL_COUNT);
+            event.drawn = profiler.getCount(FrameProfiler.DRAWN_COUNT);
+            event.commit();
+        }
     }
 
     /***
      * Method that displays the end screen of the game and prompts user to reset the game
      * @param input Input provided by the user
-     * @param messageValue String directory in message properties to locate message to display on the screen
+     * @param message Label of the message to display on the screen, depending on if the game is won or lost
      */
-    private void endGame(Input input, String messageValue) {
-        // Find relevant message depending on if the game is won or lost and prompt player to restart
-        String message = MESSAGE_PROPS.getProperty(messageValue);
-        MESSAGE_FONT.drawString(message, Window.getWidth() / 2 - MESSAGE_FONT.getWidth(message)/2, MESSAGE_Y);
+    private void endGame(Input input, HudLabel message) {
+        // Display the message and prompt player to restart
+        message.draw(RENDERER);
         if (input.wasPressed(Keys.SPACE)) {
             level.reset();
             started = false;
         }
     }
 
+    /***
+     * Method that saves the replay of the level being played, if one is being recorded, into the replay directory
+     */
+    private void saveReplay() {
+        if (replay == null) {
+            return;
+        }
+        try {
+            new File(REPLAY_DIRECTORY).mkdirs();
+            String replayFile = REPLAY_DIRECTORY + File.separator + "level" + replay.getLevelNumber() + "-" +
+                    System.currentTimeMillis() + ".replay";
+            replay.write(replayFile);
+            System.out.println("Saved replay " + replayFile + " of " + replay.getTickCount() + " ticks");
+        } catch (IOException ex) {
+            // A replay that cannot be saved should not end the game
+            ex.printStackTrace();
+        }
+        replay = null;
+    }
+
     /***
      * Method that displays the start screen of the game
      */
     private void displayStart() {
         // Draw title and starting instructions of the game on the screen
-        TITLE_FONT.drawString(GAME_TITLE, TITLE_X, TITLE_Y);
-        INSTRUCTION_FONT.drawString(INSTRUCTION,
-                Window.getWidth() / 2 - INSTRUCTION_FONT.getWidth(INSTRUCTION)/2, INS_Y);
+        TITLE_LABEL.draw(RENDERER);
+        INSTRUCTION_LABEL.draw(RENDERER);
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+import java.util.Properties;
+
+/**
+ * Class that holds the parsed font size and position of a line of text drawn on the screen.
+ *
+ * @author Lachlan Chue
+ * @version 1.16
+ */
+public class TextConfig {
+    private final int FONT_SIZE, X, Y;
+
+    /**
+     * Constructor method for text config class to parse the properties of one line of text
+     * @param PROPS Game properties to access information about the text
+     * @param name Name of the text in the properties file (e.g. "score")
+     * @throws IllegalArgumentException If the font size or vertical position is missing or not a valid number
+     */
+    public TextConfig(Properties PROPS, String name) {
+        if (PROPS.getProperty(name + ".fontSize") == null || PROPS.getProperty(name + ".y") == null) {
+            throw new IllegalArgumentException("Missing font size or position for game property " + name);
+        }
+
+        // Centred text such as the instructions has no horizontal position, so it defaults to zero
+        this.FONT_SIZE = EntityConfig.readInt(PROPS, name + ".fontSize");
+        this.X = EntityConfig.readInt(PROPS, name + ".x");
+        this.Y = EntityConfig.readInt(PROPS, name + ".y");
+    }
+
+    /***
+     * Method that gets and returns the font size of the text
+     * @return int Returns the font size
+     */
+    public int getFontSize() {
+        return this.FONT_SIZE;
+    }
+
+    /***
+     * Method that gets and returns the horizontal position of the text
+     * @return int Returns the horizontal position
+     */
+    public int getX() {
+        return this.X;
+    }
+
+    /***
+     * Method that gets and returns the vertical position of the text
+     * @return int Returns the vertical position
+     */
+    public int getY() {
+        return this.Y;
+    }
+}